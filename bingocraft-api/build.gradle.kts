@@ -2,10 +2,17 @@ plugins {
     id("java-library")
     id("io.freefair.lombok") version "8.13.1"
     id("maven-publish")
+    id("java-test-fixtures")
 }
 
 dependencies {
     compileOnly(rootProject.ext["paperApi"].toString())
+
+    // Tests run without a server, so they need the API at runtime.
+    testFixturesImplementation(rootProject.ext["paperApi"].toString())
+    testFixturesImplementation(platform("org.junit:junit-bom:5.11.4"))
+    testFixturesImplementation("org.junit.jupiter:junit-jupiter-api")
+    testImplementation(rootProject.ext["paperApi"].toString())
 }
 
 java {
@@ -17,6 +24,11 @@ java {
 }
 
 
+// The test fixtures are only shared with the plugin's tests, not published.
+val javaComponent = components["java"] as AdhocComponentWithVariants
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesApiElements"]) { skip() }
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesRuntimeElements"]) { skip() }
+
 publishing {
     publications {
         create<MavenPublication>("mavenJava") {
@@ -24,7 +36,7 @@ publishing {
 
             groupId = "com.pritam.bingocraft"
             artifactId = "bingocraft-api"
-            version = "1.0.0-beta1"
+            version = "1.0.0-beta2"
         }
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.pritam.bingocraft.api;
 
 import com.pritam.bingocraft.api.persistence.SaveService;
+import com.pritam.bingocraft.api.placeholder.PlaceholderRegistry;
 import com.pritam.bingocraft.api.sidebar.SidebarService;
 import net.kyori.adventure.text.Component;
 
@@ -8,4 +9,5 @@ public interface BingocraftAPI {
     void setMOTD(Component motd);
     SaveService getSaveService();
     SidebarService getSidebarService();
+    PlaceholderRegistry getPlaceholderRegistry();
 }
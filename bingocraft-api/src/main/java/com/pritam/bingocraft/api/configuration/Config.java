@@ -9,6 +9,7 @@ import org.bukkit.Location;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.configuration.Configuration;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.configuration.file.YamlConfigurationOptions;
 import org.bukkit.configuration.serialization.ConfigurationSerializable;
@@ -26,7 +27,7 @@ import java.util.Set;
 
 public class Config {
     private final File file;
-    private final YamlConfiguration config;
+    private volatile YamlConfiguration config;
 
     protected Config(String name, File folder, JavaPlugin plugin) {
         this.file = new File(folder, name + ".yml");
@@ -52,6 +53,56 @@ public class Config {
         }
     }
 
+    /**
+     * Parses the file into a new configuration with the same defaults, leaving the loaded one
+     * untouched. Safe to call off the main thread.
+     */
+    YamlConfiguration parse() throws IOException, InvalidConfigurationException {
+        YamlConfiguration current = this.config;
+        YamlConfiguration parsed = new YamlConfiguration();
+        Configuration defaults = current.getDefaults();
+        if (defaults != null) parsed.setDefaults(defaults);
+        parsed.options().copyDefaults(true);
+        parsed.load(file);
+        return parsed;
+    }
+
+    /**
+     * Copies the loaded values into a new configuration with the same defaults, e.g. to try
+     * changes on before applying them.
+     */
+    YamlConfiguration copy() {
+        YamlConfiguration current = this.config;
+        YamlConfiguration copy = new YamlConfiguration();
+        Configuration defaults = current.getDefaults();
+        if (defaults != null) copy.setDefaults(defaults);
+        copy.options().copyDefaults(true);
+        try {
+            copy.loadFromString(current.saveToString());
+        } catch (InvalidConfigurationException e) {
+            throw new IllegalStateException("Could not copy " + file.getName(), e);
+        }
+        return copy;
+    }
+
+    /**
+     * Replaces the loaded configuration with one returned by {@link #parse()} or {@link #copy()}.
+     */
+    void replace(YamlConfiguration parsed) {
+        this.config = parsed;
+    }
+
+    File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Returns the loaded values, e.g. to build a snapshot from.
+     */
+    protected @NotNull ConfigurationSection getSection() {
+        return this.config;
+    }
+
     protected @NotNull String saveToString() {
         return this.config.saveToString();
     }
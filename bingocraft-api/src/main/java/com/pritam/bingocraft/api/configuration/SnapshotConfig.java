@@ -0,0 +1,299 @@
+package com.pritam.bingocraft.api.configuration;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Config that publishes its values as an immutable, typed snapshot.
+ *
+ * <p>Reading values through {@link Config}'s getters resolves YAML paths on every call. A snapshot
+ * config instead converts and validates all values once, whenever the file is loaded or changed,
+ * into an immutable object of type {@code S} that can also hold derived values, such as parsed
+ * components. The snapshot is published through a volatile reference, so reading it is a plain
+ * field access and safe from any thread.</p>
+ *
+ * <p>Subclasses add their defaults in their constructor and then call {@link #refreshSnapshot()}.
+ * Values changed at runtime go through {@link #update(Map)}, which saves them to the file so a
+ * later reload keeps them.</p>
+ *
+ * <p>Once {@link #startWatching()} is called, edits to the file are picked up while the server
+ * runs: a daemon thread parses and validates the file, and only if it is valid swaps in the new
+ * values and snapshot together. Subscribers are then notified with the new snapshot so they can
+ * apply it live. An invalid edit is logged and changes nothing.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * public class GameConfig extends SnapshotConfig<GameConfig.Snapshot> {
+ *     public record Snapshot(int rounds) {}
+ *
+ *     public GameConfig(JavaPlugin plugin) {
+ *         super("game", plugin.getDataFolder(), plugin);
+ *         addDefault("rounds", 3);
+ *         refreshSnapshot();
+ *     }
+ *
+ *     protected Snapshot createSnapshot(ConfigurationSection values) {
+ *         int rounds = values.getInt("rounds");
+ *         if (rounds < 1) throw new IllegalArgumentException("rounds must be at least 1");
+ *         return new Snapshot(rounds);
+ *     }
+ * }
+ *
+ * config.subscribe(snapshot -> game.setRounds(snapshot.rounds()));
+ * config.startWatching();
+ * }</pre>
+ *
+ * @param <S> the snapshot type, which should be immutable
+ * @author Pritam
+ * @since 1.0.0
+ */
+public abstract class SnapshotConfig<S> extends Config {
+    /**
+     * Time to wait after a change for further events, as editors often write a file in several steps.
+     */
+    private static final long DEBOUNCE_MILLIS = 200;
+
+    private final Logger logger;
+    private final String fileName;
+
+    /**
+     * The current snapshot, replaced as a whole.
+     */
+    private volatile S snapshot;
+
+    /**
+     * Called with every new snapshot that differs from the previous one.
+     */
+    private final List<Consumer<S>> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Serializes snapshot swaps, so a reload and a {@code set} can't publish out of order.
+     */
+    private final Object swapLock = new Object();
+
+    private WatchService watchService;
+    private Thread watcher;
+
+    protected SnapshotConfig(String name, File folder, JavaPlugin plugin) {
+        super(name, folder, plugin);
+        this.logger = plugin.getLogger();
+        this.fileName = name + ".yml";
+    }
+
+    /**
+     * Converts and validates the given values into a snapshot.
+     *
+     * @param values the loaded values, or the defaults if the loaded values are invalid
+     * @return the new snapshot
+     * @throws IllegalArgumentException if a value is invalid
+     */
+    protected abstract @NotNull S createSnapshot(@NotNull ConfigurationSection values);
+
+    /**
+     * Returns the current snapshot.
+     *
+     * @return the snapshot built from the most recent valid values
+     */
+    public @NotNull S getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Rebuilds the snapshot from the current values.
+     *
+     * <p>If the values are invalid, the error is logged and the previous snapshot is kept. If
+     * there is none yet, the snapshot is built from the defaults instead.</p>
+     */
+    protected void refreshSnapshot() {
+        synchronized (swapLock) {
+            try {
+                publish(createSnapshot(getSection()));
+            } catch (IllegalArgumentException e) {
+                Configuration defaults = getDefaults();
+                if (snapshot == null && defaults != null) {
+                    logger.log(Level.SEVERE, "Invalid " + fileName + ", using the defaults: " + e.getMessage());
+                    publish(createSnapshot(defaults));
+                } else if (snapshot != null) {
+                    logger.log(Level.SEVERE, "Invalid " + fileName + ", keeping the previous values: " + e.getMessage());
+                } else {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reloads the file, replacing the values and the snapshot if it is valid.
+     *
+     * <p>Parsing and validation happen on the calling thread, which is the watcher thread for
+     * changes picked up by {@link #startWatching()}. Values set but not saved are lost; values
+     * changed through {@link #update(Map)} are saved first, so a reload never drops them.</p>
+     *
+     * @return whether the file was valid and has been applied
+     */
+    public boolean reload() {
+        synchronized (swapLock) {
+            YamlConfiguration parsed;
+            S next;
+            try {
+                parsed = parse();
+                next = createSnapshot(parsed);
+            } catch (IOException | InvalidConfigurationException | IllegalArgumentException e) {
+                logger.log(Level.SEVERE, "Could not reload " + fileName + ", keeping the previous values: " + e.getMessage());
+                return false;
+            }
+
+            replace(parsed);
+            publish(next);
+            return true;
+        }
+    }
+
+    /**
+     * Sets the given values, rebuilds the snapshot and saves the file, all under the same lock as
+     * {@link #reload()}. A reload therefore either runs before and is overwritten, or runs after
+     * and reads the saved values back.
+     *
+     * <p>The values are validated on a copy first; if they are invalid, neither the loaded values
+     * nor the file are changed.</p>
+     *
+     * @param values the new values by path
+     * @throws IllegalArgumentException if a value is invalid
+     */
+    protected void update(@NotNull Map<String, ?> values) {
+        synchronized (swapLock) {
+            YamlConfiguration updated = copy();
+            values.forEach(updated::set);
+            S next = createSnapshot(updated);
+
+            replace(updated);
+            publish(next);
+            try {
+                save();
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Could not save " + fileName, e);
+            }
+        }
+    }
+
+    /**
+     * Registers a subscriber called with every new snapshot.
+     *
+     * <p>Subscribers are called on the thread that replaced the snapshot: the watcher thread for
+     * file changes, or the caller of a setter. Work that must happen on the main thread has to be
+     * scheduled by the subscriber. Snapshots equal to the previous one, e.g. after the config
+     * saved itself, are not published.</p>
+     *
+     * @param subscriber called with the new snapshot
+     */
+    public void subscribe(@NotNull Consumer<S> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(@NotNull Consumer<S> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Starts watching the file for changes on a daemon thread. Does nothing if already watching.
+     *
+     * @throws IOException if the config folder can't be watched
+     */
+    public synchronized void startWatching() throws IOException {
+        if (watcher != null) return;
+
+        Path folder = getFile().getAbsoluteFile().getParentFile().toPath();
+        watchService = FileSystems.getDefault().newWatchService();
+        folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        WatchService service = watchService;
+        watcher = new Thread(() -> watch(service), "Bingocraft Config Watcher-" + fileName);
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Stops watching the file.
+     */
+    public synchronized void stopWatching() {
+        if (watcher == null) return;
+
+        watcher.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not close the watch service of " + fileName, e);
+        }
+        watcher = null;
+        watchService = null;
+    }
+
+    private void watch(WatchService service) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (!affectsFile(service.take())) continue;
+
+                // Let the write settle, then drop the events it caused.
+                Thread.sleep(DEBOUNCE_MILLIS);
+                WatchKey pending;
+                while ((pending = service.poll()) != null) {
+                    affectsFile(pending);
+                }
+
+                reload();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Stopped watching.
+        }
+    }
+
+    /**
+     * Consumes the events of a key and resets it.
+     *
+     * @return whether any of the events concern the config file
+     */
+    private boolean affectsFile(WatchKey key) {
+        boolean affected = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path path && path.toString().equals(fileName)) {
+                affected = true;
+            }
+        }
+        key.reset();
+        return affected;
+    }
+
+    private void publish(S next) {
+        S previous = snapshot;
+        snapshot = next;
+        if (next.equals(previous)) return;
+
+        for (Consumer<S> subscriber : subscribers) {
+            try {
+                subscriber.accept(next);
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, "Error applying the new values of " + fileName, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.pritam.bingocraft.api.persistence;
+
+import java.util.List;
+
+/**
+ * A single page of results returned by {@link SaveService#queryIndex(IndexQuery)}.
+ *
+ * @param returnCode the result of the query, see {@link SaveService#queryIndex(IndexQuery)}
+ * @param entries the matching keys and their indexed values, in query order
+ * @param nextQuery the query for the following page, or null if this is the last page
+ *
+ * @since 1.0.0
+ * @author Pritam
+ * @see IndexQuery
+ */
+public record IndexPage(SaveServiceReturnCode returnCode, List<Entry> entries, IndexQuery nextQuery) {
+
+    /**
+     * Creates an empty, final page carrying only a return code.
+     *
+     * @param returnCode the result of the query
+     * @return an empty page
+     */
+    public static IndexPage of(SaveServiceReturnCode returnCode) {
+        return new IndexPage(returnCode, List.of(), null);
+    }
+
+    /**
+     * Checks whether more results are available after this page.
+     *
+     * @return true if {@link #nextQuery()} can be used to fetch another page
+     */
+    public boolean hasMore() {
+        return nextQuery != null;
+    }
+
+    /**
+     * A key matched by an index query together with its indexed value.
+     *
+     * @param key the key of the stored object
+     * @param value the value of the queried field
+     */
+    public record Entry(String key, long value) {}
+}
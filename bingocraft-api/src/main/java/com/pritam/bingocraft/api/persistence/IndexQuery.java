@@ -0,0 +1,86 @@
+package com.pritam.bingocraft.api.persistence;
+
+/**
+ * A paged range query over a secondary index maintained for {@link IndexedSaveable} objects.
+ *
+ * <p>Queries are immutable; use {@link #range(String, long, long)} to create one and the
+ * {@code with*} methods to refine it. Results are ordered by value and then by key, and
+ * pages are chained through {@link IndexPage#nextQuery()}.
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * IndexQuery query = IndexQuery.range("wins", 50, Long.MAX_VALUE).withPageSize(100);
+ * saveService.queryIndex(query).thenAccept(page -> {
+ *     page.entries().forEach(entry -> ...);
+ *     if (page.hasMore()) saveService.queryIndex(page.nextQuery());
+ * });
+ * }</pre>
+ *
+ * @param field the indexed field name, must not be null or blank
+ * @param min the inclusive lower bound of the value range
+ * @param max the inclusive upper bound of the value range
+ * @param descending whether results are returned from highest to lowest value
+ * @param pageSize the maximum number of entries per page, must be positive
+ * @param after the last entry of the previous page, or null for the first page
+ *
+ * @since 1.0.0
+ * @author Pritam
+ * @see SaveService#queryIndex(IndexQuery)
+ */
+public record IndexQuery(String field, long min, long max, boolean descending, int pageSize, IndexPage.Entry after) {
+
+    /**
+     * The page size used by {@link #range(String, long, long)}.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    public IndexQuery {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        if (min > max) {
+            throw new IllegalArgumentException("Range minimum must not be greater than its maximum");
+        }
+    }
+
+    /**
+     * Creates an ascending query for all values between {@code min} and {@code max}, inclusive.
+     *
+     * @param field the indexed field name
+     * @param min the inclusive lower bound
+     * @param max the inclusive upper bound
+     * @return a query for the first page of the range
+     */
+    public static IndexQuery range(String field, long min, long max) {
+        return new IndexQuery(field, min, max, false, DEFAULT_PAGE_SIZE, null);
+    }
+
+    /**
+     * Returns a copy of this query that orders results from highest to lowest value.
+     *
+     * @return a descending copy of this query
+     */
+    public IndexQuery inDescendingOrder() {
+        return new IndexQuery(field, min, max, true, pageSize, after);
+    }
+
+    /**
+     * Returns a copy of this query with a different page size.
+     *
+     * @param pageSize the maximum number of entries per page
+     * @return a copy of this query with the given page size
+     */
+    public IndexQuery withPageSize(int pageSize) {
+        return new IndexQuery(field, min, max, descending, pageSize, after);
+    }
+
+    /**
+     * Returns a copy of this query that continues after the given entry.
+     *
+     * @param after the last entry already seen
+     * @return a copy of this query starting after {@code after}
+     */
+    public IndexQuery withAfter(IndexPage.Entry after) {
+        return new IndexQuery(field, min, max, descending, pageSize, after);
+    }
+}
@@ -0,0 +1,50 @@
+package com.pritam.bingocraft.api.persistence;
+
+import java.util.Map;
+
+/**
+ * A {@link SaveableObject} that exposes some of its fields as secondary indexes.
+ *
+ * <p>Indexed values are written to a side index by the {@link SaveService} whenever the
+ * object is flushed, which allows range queries such as "all players with wins &gt; 50"
+ * through {@link SaveService#queryIndex(IndexQuery)} without loading and parsing every
+ * stored object.
+ *
+ * <p><strong>Implementation Requirements:</strong>
+ * <ul>
+ * <li>Field names must be stable across versions, they are stored alongside the values</li>
+ * <li>The returned map must reflect the state that {@link #toString()} serializes</li>
+ * <li>Fields missing from the map are removed from the index for this object</li>
+ * </ul>
+ *
+ * <p><strong>Example Implementation:</strong>
+ * <pre>{@code
+ * public class PlayerStats implements IndexedSaveable {
+ *     private int wins;
+ *     private int losses;
+ *
+ *     @Override
+ *     public Map<String, Long> getIndexedValues() {
+ *         return Map.of("wins", (long) wins, "losses", (long) losses);
+ *     }
+ *
+ *     // toString() / fromString(String) as usual...
+ * }
+ * }</pre>
+ *
+ * @since 1.0.0
+ * @author Pritam
+ * @see SaveService#queryIndex(IndexQuery)
+ */
+public interface IndexedSaveable extends SaveableObject {
+
+    /**
+     * Returns the indexed fields of this object and their current values.
+     *
+     * <p>This method is called on the save thread during a flush, so it should be
+     * cheap and must not return null.
+     *
+     * @return a map of index field names to their numeric values
+     */
+    Map<String, Long> getIndexedValues();
+}
@@ -1,5 +1,7 @@
 package com.pritam.bingocraft.api.persistence;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -91,4 +93,91 @@ public interface SaveService {
      *         </ul>
      */
     CompletableFuture<SaveServiceReturnCode> exists(String key);
+
+    /**
+     * Queries a secondary index for keys whose indexed value lies within a range.
+     *
+     * <p>Indexes are maintained for objects implementing {@link IndexedSaveable} and are
+     * updated when queued objects are flushed to storage, so objects saved since the last
+     * flush are not yet visible to queries. Results are paged; pass
+     * {@link IndexPage#nextQuery()} back to this method to fetch the following page.
+     *
+     * @param query the range and paging parameters, must not be null
+     * @return a {@link CompletableFuture} that completes with a page whose return code is:
+     *         <ul>
+     *         <li>{@link SaveServiceReturnCode#SUCCESS} if the query ran, even if it matched nothing</li>
+     *         <li>{@link SaveServiceReturnCode#OFFLINE} if the service is disabled</li>
+     *         <li>{@link SaveServiceReturnCode#INVALID_KEY} if the field name is null or blank</li>
+     *         <li>{@link SaveServiceReturnCode#SQL_ERROR} if a database error occurred</li>
+     *         </ul>
+     * @throws NullPointerException if query is null
+     */
+    CompletableFuture<IndexPage> queryIndex(IndexQuery query);
+
+    /**
+     * Opens a stream that writes a large object under the specified key.
+     *
+     * <p>Large objects live in their own key space, separate from objects stored with
+     * {@link #save(String, SaveableObject)}, and are written directly to storage in
+     * fixed-size chunks instead of being held in memory or cached. The new content replaces
+     * any previous large object with the same key atomically when the stream is closed;
+     * until then readers keep seeing the previous content. A stream that is never closed
+     * leaves no visible object behind.
+     *
+     * <p>This operation is blocking and must not be called from the server thread.
+     *
+     * @param key the unique identifier for the large object, must not be null or blank
+     * @return an output stream that must be closed to commit the written data
+     * @throws SaveServiceException with {@link SaveServiceReturnCode#OFFLINE} if the service is disabled,
+     *         {@link SaveServiceReturnCode#INVALID_KEY} if the key is null or blank
+     */
+    OutputStream openWrite(String key) throws SaveServiceException;
+
+    /**
+     * Opens a stream that reads a large object stored under the specified key.
+     *
+     * <p>Chunks are fetched lazily as the stream is consumed, so reading a prefix of the
+     * object, or skipping ahead, never materializes the whole payload.
+     *
+     * <p>This operation is blocking and must not be called from the server thread.
+     *
+     * @param key the unique identifier for the large object, must not be null or blank
+     * @return an input stream positioned at the start of the object
+     * @throws SaveServiceException with {@link SaveServiceReturnCode#OFFLINE} if the service is disabled,
+     *         {@link SaveServiceReturnCode#INVALID_KEY} if the key is null or blank,
+     *         {@link SaveServiceReturnCode#KEY_NOT_FOUND} if no large object exists with the given key,
+     *         {@link SaveServiceReturnCode#SQL_ERROR} if a database error occurred
+     */
+    default InputStream openRead(String key) throws SaveServiceException {
+        return openRead(key, 0);
+    }
+
+    /**
+     * Opens a stream that reads a large object starting at the given byte offset.
+     *
+     * <p>Only the chunks from {@code offset} onwards are fetched from storage.
+     *
+     * @param key the unique identifier for the large object, must not be null or blank
+     * @param offset the number of bytes to skip, must not be negative
+     * @return an input stream positioned at {@code offset}, or at the end if the object is shorter
+     * @throws SaveServiceException as described in {@link #openRead(String)}
+     * @throws IllegalArgumentException if offset is negative
+     * @see #openRead(String)
+     */
+    InputStream openRead(String key, long offset) throws SaveServiceException;
+
+    /**
+     * Deletes a large object written with {@link #openWrite(String)}.
+     *
+     * @param key the unique identifier for the large object, must not be null or blank
+     * @return a {@link CompletableFuture} that completes with:
+     *         <ul>
+     *         <li>{@link SaveServiceReturnCode#SUCCESS} if the large object was deleted successfully</li>
+     *         <li>{@link SaveServiceReturnCode#KEY_NOT_FOUND} if no large object exists with the given key</li>
+     *         <li>{@link SaveServiceReturnCode#OFFLINE} if the service is disabled</li>
+     *         <li>{@link SaveServiceReturnCode#INVALID_KEY} if the key is null or blank</li>
+     *         <li>{@link SaveServiceReturnCode#SQL_ERROR} if a database error occurred</li>
+     *         </ul>
+     */
+    CompletableFuture<SaveServiceReturnCode> deleteLarge(String key);
 }
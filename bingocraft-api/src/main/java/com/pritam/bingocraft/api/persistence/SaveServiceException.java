@@ -0,0 +1,49 @@
+package com.pritam.bingocraft.api.persistence;
+
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * Signals that a blocking {@link SaveService} stream operation could not be performed.
+ *
+ * <p>Streaming operations cannot report their result through a {@link SaveServiceReturnCode}
+ * return value, so they throw this exception instead. The attached return code carries the
+ * same meaning it would have for the asynchronous operations.
+ *
+ * @since 1.0.0
+ * @author Pritam
+ * @see SaveService#openWrite(String)
+ * @see SaveService#openRead(String)
+ */
+@Getter
+public class SaveServiceException extends IOException {
+
+    /**
+     * The return code describing why the operation failed.
+     */
+    private final SaveServiceReturnCode returnCode;
+
+    /**
+     * Creates a new exception for the given return code.
+     *
+     * @param returnCode the reason the operation failed
+     * @param message the detail message
+     */
+    public SaveServiceException(SaveServiceReturnCode returnCode, String message) {
+        super(message);
+        this.returnCode = returnCode;
+    }
+
+    /**
+     * Creates a new exception for the given return code with an underlying cause.
+     *
+     * @param returnCode the reason the operation failed
+     * @param message the detail message
+     * @param cause the underlying cause
+     */
+    public SaveServiceException(SaveServiceReturnCode returnCode, String message, Throwable cause) {
+        super(message, cause);
+        this.returnCode = returnCode;
+    }
+}
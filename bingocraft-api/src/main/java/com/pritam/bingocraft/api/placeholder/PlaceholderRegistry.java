@@ -0,0 +1,104 @@
+package com.pritam.bingocraft.api.placeholder;
+
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A registry of placeholder providers shared by all plugins.
+ *
+ * <p>Providers compute values such as the online count or a team's score. A global provider is
+ * called at most once per server tick, and a per-player provider at most once per player and
+ * tick; within a tick, every message and sidebar line reading the placeholder gets the same
+ * memoized value.
+ *
+ * <p>Values are consumed through the map views returned by {@link #global()} and
+ * {@link #forPlayer(UUID)}, which can be passed to
+ * {@link com.pritam.bingocraft.api.utils.Message#getComponent(Map)} or layered into a
+ * {@link com.pritam.bingocraft.api.utils.PlaceholderContext}. Sidebar views layer them under
+ * their own placeholders automatically. Since providers are not observed, sidebar lines reading
+ * provided placeholders must declare no dependencies or have a refresh interval to pick up
+ * new values.
+ *
+ * <p>Sidebar views call providers on the main thread only, also when they render on a render
+ * executor: the values a pass needs are resolved on the main thread when it is captured. Other
+ * code resolving placeholders off the main thread must only use thread-safe providers.
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * PlaceholderRegistry registry = api.getPlaceholderRegistry();
+ * registry.registerGlobal("online", () -> String.valueOf(Bukkit.getOnlinePlayers().size()));
+ * registry.registerPlayer("team", player -> teams.getTeamName(player));
+ *
+ * Component component = message.getComponent(registry.forPlayer(player.getUniqueId()));
+ * }</pre>
+ *
+ * @since 1.0.0
+ * @author Pritam
+ */
+public interface PlaceholderRegistry {
+
+    /**
+     * Registers a provider for a placeholder that has the same value for every player,
+     * replacing any provider registered under the same key.
+     *
+     * @param key the placeholder name
+     * @param provider computes the value; may return null if there is none
+     */
+    void registerGlobal(String key, Supplier<String> provider);
+
+    /**
+     * Registers a provider for a placeholder whose value depends on the player, replacing any
+     * provider registered under the same key. Per-player providers take precedence over global
+     * ones in {@link #forPlayer(UUID)}.
+     *
+     * @param key the placeholder name
+     * @param provider computes the value for an online player; may return null if there is none
+     */
+    void registerPlayer(String key, Function<Player, String> provider);
+
+    /**
+     * Removes the global and per-player providers of a placeholder.
+     *
+     * @param key the placeholder name
+     */
+    void unregister(String key);
+
+    /**
+     * Resolves a global placeholder.
+     *
+     * @param key the placeholder name
+     * @return the value memoized for the current tick, or null if there is no provider or value
+     */
+    String resolve(String key);
+
+    /**
+     * Resolves a placeholder for a player, falling back to the global provider.
+     *
+     * @param playerId the player
+     * @param key the placeholder name
+     * @return the value memoized for the current tick, or null if there is no provider or value,
+     *         or the player is offline and there is no global provider
+     */
+    String resolve(UUID playerId, String key);
+
+    /**
+     * Returns a read-only map resolving global placeholders.
+     *
+     * @return a live view; {@link Map#get(Object)} resolves through {@link #resolve(String)}
+     */
+    Map<String, String> global();
+
+    /**
+     * Returns a read-only map resolving placeholders for a player.
+     *
+     * <p>The view is cheap to keep: it holds no values and can be reused for the player's session.</p>
+     *
+     * @param playerId the player
+     * @return a live view; {@link Map#get(Object)} resolves through {@link #resolve(UUID, String)}
+     */
+    Map<String, String> forPlayer(UUID playerId);
+}
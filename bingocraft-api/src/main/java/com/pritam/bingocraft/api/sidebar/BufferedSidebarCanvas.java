@@ -0,0 +1,88 @@
+package com.pritam.bingocraft.api.sidebar;
+
+import com.pritam.bingocraft.api.sidebar.backend.SidebarCanvas;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Canvas that queues content operations so they can be computed off the main thread.
+ *
+ * <p>Title, score and team operations are recorded in order and replayed on the target canvas by
+ * {@link #flush()}, which must run on the main thread. Visibility operations are not buffered and
+ * go straight to the target; they are only ever issued from the main thread.
+ *
+ * <p>One thread may record while no other thread flushes; {@link SidebarView} guarantees this by
+ * only flushing after a render pass has completed.
+ */
+final class BufferedSidebarCanvas implements SidebarCanvas {
+    private final SidebarCanvas target;
+    private final List<Consumer<SidebarCanvas>> operations = new ArrayList<>();
+
+    BufferedSidebarCanvas(SidebarCanvas target) {
+        this.target = target;
+    }
+
+    /**
+     * Replays and clears the queued operations on the target canvas.
+     */
+    void flush() {
+        for (Consumer<SidebarCanvas> operation : operations) {
+            operation.accept(target);
+        }
+        operations.clear();
+    }
+
+    @Override
+    public void setTitle(Component title) {
+        operations.add(canvas -> canvas.setTitle(title));
+    }
+
+    @Override
+    public void setScore(String entry, int score) {
+        operations.add(canvas -> canvas.setScore(entry, score));
+    }
+
+    @Override
+    public void resetScore(String entry) {
+        operations.add(canvas -> canvas.resetScore(entry));
+    }
+
+    @Override
+    public void registerTeam(String teamId, String entry) {
+        operations.add(canvas -> canvas.registerTeam(teamId, entry));
+    }
+
+    @Override
+    public void unregisterTeam(String teamId) {
+        operations.add(canvas -> canvas.unregisterTeam(teamId));
+    }
+
+    @Override
+    public void setTeamPrefix(String teamId, Component prefix) {
+        operations.add(canvas -> canvas.setTeamPrefix(teamId, prefix));
+    }
+
+    @Override
+    public void setTeamSuffix(String teamId, Component suffix) {
+        operations.add(canvas -> canvas.setTeamSuffix(teamId, suffix));
+    }
+
+    @Override
+    public void show(Player player) {
+        target.show(player);
+    }
+
+    @Override
+    public void hide(Player player) {
+        target.hide(player);
+    }
+
+    @Override
+    public boolean isShownTo(Player player) {
+        return target.isShownTo(player);
+    }
+}
@@ -0,0 +1,19 @@
+package com.pritam.bingocraft.api.sidebar;
+
+import net.kyori.adventure.text.Component;
+
+/**
+ * Receiver of rendered sidebar content, slot by slot.
+ *
+ * <p>Implemented by {@link SidebarDiffEngine}, which turns content into canvas operations, and by
+ * {@link SidebarFrame}, which only records it.
+ */
+interface LineSink {
+    void setTitle(Component title);
+
+    void setLiteral(int slot, String text);
+
+    void setDynamic(int slot, String teamId, Component prefix, Component suffix);
+
+    void clear(int slot);
+}
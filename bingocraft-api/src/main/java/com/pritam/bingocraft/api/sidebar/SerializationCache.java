@@ -0,0 +1,88 @@
+package com.pritam.bingocraft.api.sidebar;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+
+/**
+ * Bounded cache from rendered components to their legacy sidebar text, shared by all views.
+ *
+ * <p>Serializing a component walks its whole tree and builds a new string. Sidebar lines mostly
+ * render to content that was seen before, either on an earlier tick or for another player, so the
+ * result is cached by component equality. A hit costs one hash and equality check instead of a
+ * serialization, and also answers whether the component is empty.
+ *
+ * <p>The cache is safe to use from the render threads of pipelined views. Its hit rate is
+ * available through {@link #stats()}.
+ *
+ * @author Pritam
+ * @since 1.0.0
+ */
+public final class SerializationCache {
+    /**
+     * Maximum number of cached components across all views.
+     */
+    private static final int MAXIMUM_SIZE = 10_000;
+
+    private static final LegacyComponentSerializer SERIALIZER = LegacyComponentSerializer.legacySection();
+
+    private static final Cache<Component, Serialized> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .recordStats()
+            .build();
+
+    private SerializationCache() {}
+
+    /**
+     * Returns the legacy text of a component, or null if the component is empty.
+     *
+     * @param component the rendered component
+     * @return the legacy-serialized text, or null for {@link Component#empty()}
+     */
+    public static String serialize(Component component) {
+        Serialized serialized = CACHE.getIfPresent(component);
+        if (serialized == null) {
+            serialized = component.equals(Component.empty())
+                    ? Serialized.EMPTY
+                    : new Serialized(SERIALIZER.serialize(component));
+            CACHE.put(component, serialized);
+        }
+        return serialized.legacy();
+    }
+
+    /**
+     * Returns the statistics of the cache since the server started.
+     *
+     * @return hit, miss and eviction counts
+     */
+    public static CacheStats stats() {
+        return CACHE.stats();
+    }
+
+    /**
+     * Returns the number of cached components.
+     *
+     * @return the approximate cache size
+     */
+    public static long size() {
+        return CACHE.size();
+    }
+
+    /**
+     * Drops all cached components. Statistics are kept.
+     */
+    public static void clear() {
+        CACHE.invalidateAll();
+    }
+
+    /**
+     * Serialized form of a component.
+     *
+     * @param legacy the legacy text, or null if the component is empty
+     */
+    private record Serialized(String legacy) {
+        private static final Serialized EMPTY = new Serialized(null);
+    }
+}
@@ -0,0 +1,211 @@
+package com.pritam.bingocraft.api.sidebar;
+
+import com.pritam.bingocraft.api.sidebar.backend.SidebarCanvas;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import org.bukkit.ChatColor;
+
+import java.util.Objects;
+
+/**
+ * Computes the minimal set of scoreboard operations needed to bring a canvas up to date.
+ *
+ * <p>The engine keeps a model of what the client currently shows on its {@link SidebarCanvas}:
+ * the title, the entry of every literal line, and the team, prefix and suffix of every dynamic
+ * line. Rendered content is handed to the engine slot by slot, and only the differences
+ * against the model are sent to the canvas. Unchanged titles, lines, prefixes and suffixes
+ * cost no operations at all.
+ *
+ * <p>Slots are numbered from 0 (top) to 14 (bottom); slot {@code i} is displayed with
+ * score {@code 15 - i}.
+ *
+ * @author Pritam
+ * @since 1.0.0
+ */
+public class SidebarDiffEngine implements LineSink {
+    /**
+     * Maximum number of lines supported by Minecraft scoreboards.
+     */
+    public static final int MAX_LINES = 15;
+
+    /**
+     * Unique color-coded entries used to anchor dynamic lines.
+     * These are used internally to manage scoreboard entries and should not be modified.
+     */
+    private static final String[] UNIQUE_ENTRIES = {
+            ChatColor.COLOR_CHAR + "0", ChatColor.COLOR_CHAR + "1", ChatColor.COLOR_CHAR + "2",
+            ChatColor.COLOR_CHAR + "3", ChatColor.COLOR_CHAR + "4", ChatColor.COLOR_CHAR + "5",
+            ChatColor.COLOR_CHAR + "6", ChatColor.COLOR_CHAR + "7", ChatColor.COLOR_CHAR + "8",
+            ChatColor.COLOR_CHAR + "9", ChatColor.COLOR_CHAR + "a", ChatColor.COLOR_CHAR + "b",
+            ChatColor.COLOR_CHAR + "c", ChatColor.COLOR_CHAR + "d", ChatColor.COLOR_CHAR + "e"
+    };
+
+    /**
+     * The canvas operations are sent to.
+     */
+    @Getter
+    private final SidebarCanvas canvas;
+
+    /**
+     * The title currently shown.
+     */
+    private Component title;
+
+    /**
+     * Entry text currently shown for each literal line, or null if the slot shows no literal line.
+     */
+    private final String[] literals = new String[MAX_LINES];
+
+    /**
+     * Team currently registered for each dynamic line, or null if the slot has no team.
+     */
+    private final String[] teams = new String[MAX_LINES];
+
+    /**
+     * Prefix and suffix currently shown for each dynamic line.
+     */
+    private final Component[] prefixes = new Component[MAX_LINES];
+    private final Component[] suffixes = new Component[MAX_LINES];
+
+    /**
+     * Whether the anchor entry of each dynamic line currently has a score, i.e. is visible.
+     */
+    private final boolean[] anchored = new boolean[MAX_LINES];
+
+    /**
+     * Operations sent since the last {@link #takeOperationCount()}.
+     */
+    private int operations;
+
+    /**
+     * Creates an engine for a freshly created canvas.
+     *
+     * @param canvas the canvas to update, as returned by the backend
+     * @param title the title the canvas was created with
+     */
+    public SidebarDiffEngine(SidebarCanvas canvas, Component title) {
+        this.canvas = canvas;
+        this.title = title;
+    }
+
+    /**
+     * Updates the title if it differs from the one shown.
+     *
+     * @param title the rendered title
+     */
+    @Override
+    public void setTitle(Component title) {
+        if (Objects.equals(this.title, title)) return;
+
+        send().setTitle(title);
+        this.title = title;
+    }
+
+    /**
+     * Shows a literal line, or hides the slot if {@code text} is null.
+     *
+     * @param slot the line slot, 0-14
+     * @param text the legacy-serialized line text, or null for an empty line
+     */
+    @Override
+    public void setLiteral(int slot, String text) {
+        if (teams[slot] != null) clearDynamic(slot);
+
+        String previous = literals[slot];
+        if (Objects.equals(previous, text)) return;
+
+        if (previous != null) send().resetScore(previous);
+        if (text != null) send().setScore(text, score(slot));
+        literals[slot] = text;
+    }
+
+    /**
+     * Shows a dynamic line, or hides it if both prefix and suffix are empty.
+     *
+     * <p>The team is registered the first time the slot is used with {@code teamId} and
+     * kept while the line is hidden, so showing it again only costs a score update.
+     *
+     * @param slot the line slot, 0-14
+     * @param teamId unique identifier of the line's team
+     * @param prefix the rendered prefix
+     * @param suffix the rendered suffix
+     */
+    @Override
+    public void setDynamic(int slot, String teamId, Component prefix, Component suffix) {
+        if (literals[slot] != null) {
+            send().resetScore(literals[slot]);
+            literals[slot] = null;
+        }
+
+        if (!teamId.equals(teams[slot])) {
+            if (teams[slot] != null) clearDynamic(slot);
+            send().registerTeam(teamId, UNIQUE_ENTRIES[slot]);
+            teams[slot] = teamId;
+        }
+
+        boolean hidden = Component.empty().equals(prefix) && Component.empty().equals(suffix);
+        if (hidden) {
+            if (anchored[slot]) {
+                send().resetScore(UNIQUE_ENTRIES[slot]);
+                anchored[slot] = false;
+            }
+            return;
+        }
+
+        if (!prefix.equals(prefixes[slot])) {
+            send().setTeamPrefix(teamId, prefix);
+            prefixes[slot] = prefix;
+        }
+        if (!suffix.equals(suffixes[slot])) {
+            send().setTeamSuffix(teamId, suffix);
+            suffixes[slot] = suffix;
+        }
+        if (!anchored[slot]) {
+            send().setScore(UNIQUE_ENTRIES[slot], score(slot));
+            anchored[slot] = true;
+        }
+    }
+
+    /**
+     * Removes whatever the slot currently shows.
+     *
+     * @param slot the line slot, 0-14
+     */
+    @Override
+    public void clear(int slot) {
+        setLiteral(slot, null);
+    }
+
+    private void clearDynamic(int slot) {
+        if (anchored[slot]) send().resetScore(UNIQUE_ENTRIES[slot]);
+        send().unregisterTeam(teams[slot]);
+
+        teams[slot] = null;
+        prefixes[slot] = null;
+        suffixes[slot] = null;
+        anchored[slot] = false;
+    }
+
+    /**
+     * Returns the number of operations sent since the last call, and resets it.
+     *
+     * @return the number of canvas operations
+     */
+    public int takeOperationCount() {
+        int count = operations;
+        operations = 0;
+        return count;
+    }
+
+    /**
+     * Returns the canvas for sending a single operation, counting it.
+     */
+    private SidebarCanvas send() {
+        operations++;
+        return canvas;
+    }
+
+    private static int score(int slot) {
+        return MAX_LINES - slot;
+    }
+}
@@ -0,0 +1,122 @@
+package com.pritam.bingocraft.api.sidebar;
+
+import java.util.SequencedSet;
+import java.util.UUID;
+
+/**
+ * Bridge through which the plugin's sidebar service schedules views. Not part of the API.
+ *
+ * <p>Scheduling state such as timers, update buckets and the update queue lives in the service.
+ * Views only declare their intervals and tell their {@link Host} when those or their players
+ * change; the hooks that mark lines dirty and update players are only reachable through a
+ * driver. Drivers are only handed to code loaded together with the API, i.e. the plugin that
+ * ships it, so addons can't drive views behind the service's back.</p>
+ *
+ * @author Pritam
+ * @since 1.0.0
+ */
+public final class SidebarDriver {
+    private static final StackWalker STACK_WALKER =
+            StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private SidebarDriver() {}
+
+    /**
+     * Creates a driver for the calling scheduler.
+     *
+     * <p>The API is shaded into the plugin, so only the plugin's own classes share its class
+     * loader. Addons are loaded by their own class loader and are refused.</p>
+     *
+     * @return a new driver
+     * @throws IllegalCallerException if the caller was not loaded together with the API
+     */
+    public static SidebarDriver create() {
+        Class<?> caller = STACK_WALKER.getCallerClass();
+        if (caller.getClassLoader() != SidebarDriver.class.getClassLoader()) {
+            throw new IllegalCallerException(caller.getName() + " may not drive sidebar views");
+        }
+        return new SidebarDriver();
+    }
+
+    /**
+     * Attaches a view to the host scheduling it.
+     *
+     * @param view the view
+     * @param host the host, or null when the view is unregistered
+     */
+    public void bind(SidebarView view, Host host) {
+        view.bind(host);
+    }
+
+    /**
+     * Marks every line of the view with the given refresh interval to be re-rendered, advancing
+     * animations with that period. Called at each refresh point.
+     *
+     * @param view the view
+     * @param interval one of the view's {@link SidebarView#getRefreshIntervals() refresh intervals}
+     */
+    public void refresh(SidebarView view, int interval) {
+        view.refresh(interval);
+    }
+
+    /**
+     * Marks the lines and title of the view that declared neither dependencies nor a refresh
+     * interval dirty. Called at each point of the view's update interval.
+     *
+     * @param view the view
+     */
+    public void invalidateVolatile(SidebarView view) {
+        view.invalidateVolatile();
+    }
+
+    /**
+     * Updates players taken from the front of the queue until it is empty or the deadline has
+     * passed. In pipelined mode, the whole queue is captured into a render pass instead, unless
+     * the previous pass is still pending.
+     *
+     * @param view the view
+     * @param queue players of the view waiting to be updated; processed players are removed
+     * @param deadlineNanos {@link System#nanoTime()} after which no further player is started
+     * @return whether every queued player has been processed or handed to a render pass
+     */
+    public boolean update(SidebarView view, SequencedSet<UUID> queue, long deadlineNanos) {
+        return view.update(queue, deadlineNanos);
+    }
+
+    /**
+     * Scheduler a view is attached to.
+     */
+    public interface Host {
+        /**
+         * Called when the view's update or refresh intervals changed.
+         *
+         * @param view the view
+         */
+        void intervalsChanged(SidebarView view);
+
+        /**
+         * Called when a player was assigned to the view and should be updated soon.
+         *
+         * @param view the view
+         * @param playerId the player
+         */
+        void playerAssigned(SidebarView view, UUID playerId);
+
+        /**
+         * Called when a player was unassigned from the view.
+         *
+         * @param view the view
+         * @param playerId the player
+         */
+        void playerUnassigned(SidebarView view, UUID playerId);
+
+        /**
+         * Called when a player has to be updated before their bucket comes up, e.g. because their
+         * sidebar was dropped or a render pass left lines unrendered.
+         *
+         * @param view the view
+         * @param playerId the player
+         */
+        void updateRequested(SidebarView view, UUID playerId);
+    }
+}
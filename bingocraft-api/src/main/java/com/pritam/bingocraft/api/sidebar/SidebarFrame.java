@@ -0,0 +1,96 @@
+package com.pritam.bingocraft.api.sidebar;
+
+import net.kyori.adventure.text.Component;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The rendered content of a sidebar, independent of any canvas.
+ *
+ * <p>Frames compare and hash by content, so players whose sidebars look exactly the same can be
+ * found through a hash lookup. A frame can be {@link #applyTo(SidebarDiffEngine) applied} to a
+ * diff engine, which then sends only what differs from the canvas' current content.
+ */
+final class SidebarFrame implements LineSink {
+    private Component title = Component.empty();
+    private final String[] literals = new String[SidebarDiffEngine.MAX_LINES];
+    private final String[] teams = new String[SidebarDiffEngine.MAX_LINES];
+    private final Component[] prefixes = new Component[SidebarDiffEngine.MAX_LINES];
+    private final Component[] suffixes = new Component[SidebarDiffEngine.MAX_LINES];
+
+    Component getTitle() {
+        return title;
+    }
+
+    @Override
+    public void setTitle(Component title) {
+        this.title = title;
+    }
+
+    @Override
+    public void setLiteral(int slot, String text) {
+        literals[slot] = text;
+        teams[slot] = null;
+        prefixes[slot] = null;
+        suffixes[slot] = null;
+    }
+
+    @Override
+    public void setDynamic(int slot, String teamId, Component prefix, Component suffix) {
+        literals[slot] = null;
+        teams[slot] = teamId;
+        prefixes[slot] = prefix;
+        suffixes[slot] = suffix;
+    }
+
+    @Override
+    public void clear(int slot) {
+        setLiteral(slot, null);
+    }
+
+    /**
+     * Brings the engine's canvas up to this frame's content.
+     */
+    void applyTo(SidebarDiffEngine engine) {
+        engine.setTitle(title);
+        for (int i = 0; i < literals.length; i++) {
+            if (teams[i] != null) {
+                engine.setDynamic(i, teams[i], prefixes[i], suffixes[i]);
+            } else {
+                engine.setLiteral(i, literals[i]);
+            }
+        }
+    }
+
+    SidebarFrame copy() {
+        SidebarFrame copy = new SidebarFrame();
+        copy.title = title;
+        System.arraycopy(literals, 0, copy.literals, 0, literals.length);
+        System.arraycopy(teams, 0, copy.teams, 0, teams.length);
+        System.arraycopy(prefixes, 0, copy.prefixes, 0, prefixes.length);
+        System.arraycopy(suffixes, 0, copy.suffixes, 0, suffixes.length);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SidebarFrame other)) return false;
+        return Objects.equals(title, other.title)
+                && Arrays.equals(literals, other.literals)
+                && Arrays.equals(teams, other.teams)
+                && Arrays.equals(prefixes, other.prefixes)
+                && Arrays.equals(suffixes, other.suffixes);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(title);
+        result = 31 * result + Arrays.hashCode(literals);
+        result = 31 * result + Arrays.hashCode(teams);
+        result = 31 * result + Arrays.hashCode(prefixes);
+        result = 31 * result + Arrays.hashCode(suffixes);
+        return result;
+    }
+}
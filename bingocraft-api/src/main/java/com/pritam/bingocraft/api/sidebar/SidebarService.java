@@ -1,7 +1,42 @@
 package com.pritam.bingocraft.api.sidebar;
 
+import java.util.Collection;
+import java.util.UUID;
+
 public interface SidebarService {
     SidebarView getView(String sidebarId);
     void register(SidebarView view);
     void unregister(String sidebarId);
+
+    /**
+     * Returns the registered views, e.g. to inspect their {@link SidebarView#getStats() statistics}.
+     *
+     * @return a snapshot of the registered views
+     */
+    Collection<SidebarView> getViews();
+
+    /**
+     * Makes a registered view the player's only sidebar, removing them from the view they saw before.
+     * Safe to call from any thread; the switch is applied on the main thread.
+     *
+     * @param playerId the player
+     * @param sidebarId identifier of a registered view
+     * @throws IllegalArgumentException if no view with that identifier is registered
+     */
+    void showView(UUID playerId, String sidebarId);
+
+    /**
+     * Removes the player from their current view. Safe to call from any thread.
+     *
+     * @param playerId the player
+     */
+    void hideView(UUID playerId);
+
+    /**
+     * Returns the view the player was last switched to with {@link #showView(UUID, String)}.
+     *
+     * @param playerId the player
+     * @return the view, or null if the player has none
+     */
+    SidebarView getActiveView(UUID playerId);
 }
@@ -0,0 +1,163 @@
+package com.pritam.bingocraft.api.sidebar;
+
+import java.util.Arrays;
+
+/**
+ * Update counters and render timings of a single {@link SidebarView}.
+ *
+ * <p>Counters accumulate from the creation of the view or the last {@link #reset()}. Render times
+ * are kept for the most recent {@link #WINDOW} ticks and cover the main-thread time the view spent
+ * updating players, whether through {@link SidebarView#tick()} or its service, and in
+ * {@link SidebarView#apply()}; in pipelined mode, the rendering itself happens on the executor and
+ * is not included.</p>
+ *
+ * <p>Stats are recorded and read on the main thread.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * SidebarStats stats = view.getStats();
+ * long p99 = stats.getRenderTimePercentile(0.99);
+ * double skipped = (double) stats.getLinesSkipped() / (stats.getLinesRendered() + stats.getLinesSkipped());
+ * }</pre>
+ *
+ * @author Pritam
+ * @since 1.0.0
+ */
+public final class SidebarStats {
+    /**
+     * Number of most recent ticks render time percentiles are computed over.
+     */
+    public static final int WINDOW = 1200;
+
+    /**
+     * Render time of the most recent ticks in nanoseconds, used as a ring.
+     */
+    private final long[] tickNanos = new long[WINDOW];
+
+    /**
+     * Number of recorded ticks in {@link #tickNanos}, at most {@link #WINDOW}.
+     */
+    private int samples;
+
+    /**
+     * Position of the most recently recorded tick in {@link #tickNanos}.
+     */
+    private int last = -1;
+
+    private long linesRendered;
+    private long linesSkipped;
+    private long operations;
+    private long playersServed;
+    private long allocations;
+
+    SidebarStats() {}
+
+    /**
+     * Records the time a view spent updating during one tick.
+     */
+    void recordTick(long nanos) {
+        last = last + 1 == WINDOW ? 0 : last + 1;
+        tickNanos[last] = nanos;
+        if (samples < WINDOW) samples++;
+    }
+
+    /**
+     * Adds time to the most recently recorded tick, e.g. for applying a pipelined pass.
+     */
+    void addToTick(long nanos) {
+        if (last >= 0) tickNanos[last] += nanos;
+    }
+
+    /**
+     * Records that a player's sidebar was updated.
+     *
+     * @param rendered number of lines (and title) that were re-rendered
+     * @param skipped number of lines (and title) that were up to date
+     */
+    void recordPlayer(int rendered, int skipped) {
+        playersServed++;
+        linesRendered += rendered;
+        linesSkipped += skipped;
+    }
+
+    void recordOperations(int count) {
+        operations += count;
+    }
+
+    void recordAllocation() {
+        allocations++;
+    }
+
+    /**
+     * Returns the render time at the given percentile over the most recent ticks.
+     *
+     * @param percentile between 0 and 1, e.g. 0.5 for the median
+     * @return the render time in nanoseconds, or 0 if no tick has been recorded
+     */
+    public long getRenderTimePercentile(double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 1");
+        }
+        if (samples == 0) return 0;
+
+        long[] sorted = Arrays.copyOf(tickNanos, samples);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * samples) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    /**
+     * @return number of ticks the render time percentiles are computed over
+     */
+    public int getRecordedTicks() {
+        return samples;
+    }
+
+    /**
+     * @return number of line and title renders
+     */
+    public long getLinesRendered() {
+        return linesRendered;
+    }
+
+    /**
+     * @return number of lines and titles that were not re-rendered because they were up to date
+     */
+    public long getLinesSkipped() {
+        return linesSkipped;
+    }
+
+    /**
+     * @return number of scoreboard operations sent, such as score, team and title changes
+     */
+    public long getOperations() {
+        return operations;
+    }
+
+    /**
+     * @return number of player sidebar updates
+     */
+    public long getPlayersServed() {
+        return playersServed;
+    }
+
+    /**
+     * @return number of scoreboards created
+     */
+    public long getAllocations() {
+        return allocations;
+    }
+
+    /**
+     * Clears all counters and recorded render times.
+     */
+    public void reset() {
+        samples = 0;
+        last = -1;
+        linesRendered = 0;
+        linesSkipped = 0;
+        operations = 0;
+        playersServed = 0;
+        allocations = 0;
+    }
+}
@@ -1,15 +1,20 @@
 package com.pritam.bingocraft.api.sidebar;
 
+import com.pritam.bingocraft.api.placeholder.PlaceholderRegistry;
+import com.pritam.bingocraft.api.sidebar.backend.BukkitSidebarBackend;
+import com.pritam.bingocraft.api.sidebar.backend.SidebarBackend;
+import com.pritam.bingocraft.api.sidebar.backend.SidebarCanvas;
 import com.pritam.bingocraft.api.utils.Message;
+import com.pritam.bingocraft.api.utils.PlaceholderContext;
 import lombok.Getter;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
-import org.bukkit.scoreboard.*;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
 
 /**
  * Abstract base class for creating and managing sidebar scoreboards in Minecraft.
@@ -22,14 +27,77 @@ import java.util.*;
  * <p>All {@link Message} components used in this class receive the following placeholders:</p>
  * <ul>
  *   <li><code>player_name</code> - The name of the player viewing the scoreboard</li>
+ *   <li>Any placeholder set through {@link #setPlaceholder(String, String)} or
+ *       {@link #setPlaceholder(UUID, String, String)}</li>
+ *   <li>Any placeholder of the {@link #setPlaceholderRegistry(PlaceholderRegistry) placeholder
+ *       registry}, unless set on the view. Provided values are not observed, so lines using them
+ *       should declare no dependencies or have a refresh interval</li>
  * </ul>
  *
  * <h3>Line Types</h3>
  * <ul>
  *   <li>{@link LiteralLine} - Simple text lines that can be updated entirely</li>
  *   <li>{@link DynamicLine} - Lines with separate prefix and suffix components for more granular updates</li>
+ *   <li>{@link AnimatedLine} - Lines cycling through a fixed list of frames</li>
  * </ul>
  *
+ * <h3>Rendering</h3>
+ * <p>Rendering, diffing and output are separate steps. Lines are rendered per player and handed
+ * to that player's {@link SidebarDiffEngine}, which compares them with what the client already
+ * shows and sends only the differences through the view's {@link SidebarBackend}.</p>
+ *
+ * <p>Lines and the title may declare the placeholders they depend on. Such a line is only
+ * re-rendered when one of those placeholders changes or it is {@link #invalidate(int) invalidated};
+ * a line with no dependencies is rendered once. Lines that declare nothing ({@code null}) are
+ * re-rendered every tick, which is only needed for content computed outside the placeholders.
+ * A tick on which nothing is dirty costs no rendering at all.</p>
+ *
+ * <p>Render times, rendered and skipped lines, operations sent and scoreboards created are
+ * counted in the view's {@link #getStats() stats}.</p>
+ *
+ * <p>Lines that look the same for every player, such as a game timer, can be declared
+ * {@link Line#shared() shared}. A shared line is rendered and serialized once per view and the
+ * result is handed to every viewer. It only receives the placeholders set through
+ * {@link #setPlaceholder(String, String)}, not <code>player_name</code> or per-player values.</p>
+ *
+ * <h3>Scheduling</h3>
+ * <p>The {@link SidebarService} a view is registered with updates it every
+ * {@link #setUpdateInterval(int) update interval}, which defaults to the service's interval.
+ * Lines and the title can be given their own {@link #setRefreshInterval(int, int) refresh
+ * interval}: they are then marked dirty at their refresh points, independent of the view's
+ * update interval, and not in between. Each player picks them up when their bucket next comes
+ * up, which can be up to one refresh window later, or later still if the tick budget runs out
+ * (see below). A refresh interval of 0 means the line is only re-rendered when its placeholders
+ * change or it is invalidated.</p>
+ *
+ * <p>{@link AnimatedLine Animated lines} and {@link #setAnimatedTitle(List, int) titles} are
+ * rendered and serialized once, when they are set, into a ring of frames. The scheduler advances
+ * the ring every period like a refresh interval, so switching frames only sends the pre-rendered
+ * content.</p>
+ *
+ * <p>Timers only mark lines dirty. The service spreads the actual rendering over the view's
+ * refresh window by hashing players into buckets, one of which is queued per tick, and updates
+ * queued players until its per-tick time budget is used up. Players left over stay queued for
+ * the next tick.</p>
+ *
+ * <h3>Pipelined Rendering</h3>
+ * <p>By default everything happens on the main thread inside {@link #tick()}. With a
+ * {@link #setRenderExecutor(Executor) render executor}, a tick only captures a snapshot of the
+ * lines and placeholders and hands it to the executor, which renders and diffs all players in
+ * parallel. The resulting scoreboard operations are buffered and applied on the main thread by
+ * {@link #apply()}, usually on the next server tick. Messages rendered this way must not touch
+ * Bukkit state, and only see the placeholders captured at the time of the tick. Placeholders of
+ * the registry are resolved into that capture on the main thread, so the executor never calls
+ * a provider.</p>
+ *
+ * <h3>Grouping</h3>
+ * <p>Views whose players mostly see the same content, such as lobby or spectator sidebars, can
+ * {@link #setGrouping(boolean) group} them. Each player's content is still rendered, but into a
+ * {@link SidebarFrame} instead of a canvas. Players whose frames are equal share one canvas, and
+ * thus one scoreboard, which is only updated once for all of them. A player whose content diverges
+ * moves to the group showing their new content, or gets a group of their own; groups without
+ * players are dropped. Grouping applies to main-thread rendering only.</p>
+ *
  * <h3>Usage</h3>
  * <p>Extend this class and implement the {@link Runnable#run()} method to define when and how
  * the scoreboard should be updated. The run method is automatically called to refresh scoreboards
@@ -40,9 +108,21 @@ import java.util.*;
  * public class GameSidebar extends SidebarView {
  *     public GameSidebar() {
  *         super("game_scoreboard");
- *         setTitle(new Message(ph -> Component.text("Game Stats")));
+ *         setTitle(new Message(ph -> Component.text("Game Stats")), Set.of());
  *         setLine(0, new LiteralLine(new Message(ph ->
- *             Component.text("Player: " + ph.get("player_name")))));
+ *             Component.text("Player: " + ph.get("player_name"))), Set.of("player_name")));
+ *         setLine(1, new LiteralLine(new Message(ph ->
+ *             Component.text("Score: " + ph.get("score"))), Set.of("score")));
+ *         setLine(2, new LiteralLine(new Message(ph ->
+ *             Component.text("Time: " + ph.get("timer"))), Set.of("timer"), true));
+ *     }
+ *
+ *     public void onScore(Player player, int score) {
+ *         setPlaceholder(player.getUniqueId(), "score", String.valueOf(score));
+ *     }
+ *
+ *     public void onSecond(int secondsLeft) {
+ *         setPlaceholder("timer", secondsLeft + "s");
  *     }
  *
  *     // Additional game-specific logic...
@@ -61,9 +141,35 @@ public abstract class SidebarView {
     private final String SCOREBOARD_ID;
 
     /**
-     * Set of player UUIDs that are currently assigned to view this scoreboard.
+     * Bit used for the title in dirty and dependency masks, after the line bits.
+     */
+    private static final int TITLE = SidebarDiffEngine.MAX_LINES;
+
+    /**
+     * Mask of all line bits and the title bit.
      */
-    private final Set<UUID> players;
+    private static final int ALL = (1 << (TITLE + 1)) - 1;
+
+    /**
+     * Initial and minimum length of {@link #sidebars}.
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * State of every player that is currently assigned to view this scoreboard, by UUID.
+     */
+    private final Map<UUID, PlayerSidebar> players;
+
+    /**
+     * The same states packed at the front of an array, so per-tick loops don't allocate iterators.
+     * The array grows and shrinks with the number of players, keeping memory flat over long uptimes.
+     */
+    private PlayerSidebar[] sidebars = new PlayerSidebar[MIN_CAPACITY];
+
+    /**
+     * Number of used entries in {@link #sidebars}.
+     */
+    private int size;
 
     /**
      * The title message displayed at the top of the scoreboard.
@@ -71,6 +177,11 @@ public abstract class SidebarView {
      */
     private Message title;
 
+    /**
+     * Placeholders the title depends on, or null if it is re-rendered every tick.
+     */
+    private Set<String> titleDependencies;
+
     /**
      * Array of lines displayed on the scoreboard.
      * Maximum of 15 lines are supported by Minecraft scoreboards.
@@ -78,28 +189,125 @@ public abstract class SidebarView {
     private final Line[] lines;
 
     /**
-     * Unique color-coded entries used for scoreboard line identification.
-     * These are used internally to manage scoreboard entries and should not be modified.
+     * Placeholders shared by all players. Player-specific placeholders take precedence.
+     */
+    private final Map<String, String> placeholders = new HashMap<>();
+
+    /**
+     * Contexts handed out while rendering, returned at the end of every pass.
+     */
+    private final PlaceholderContext.Pool contexts = new PlaceholderContext.Pool();
+
+    /**
+     * Lines (and {@link #TITLE}) that depend on each placeholder.
+     */
+    private final Map<String, Integer> dependents = new HashMap<>();
+
+    /**
+     * Non-shared lines (and {@link #TITLE}) that depend on each placeholder. Only these are
+     * affected by player-specific placeholders.
+     */
+    private final Map<String, Integer> playerDependents = new HashMap<>();
+
+    /**
+     * Lines (and {@link #TITLE}) that declared no dependencies and are rendered every tick.
+     */
+    private int volatileLines;
+
+    /**
+     * Placeholders declared by the title and lines, which pipelined passes resolve from the registry
+     * when they are captured, or null if something declares no dependencies and every provided
+     * placeholder has to be resolved.
+     */
+    private Set<String> providedKeys = Set.of();
+
+    /**
+     * Lines declared {@link Line#shared() shared}.
+     */
+    private int sharedLines;
+
+    /**
+     * Lines (and {@link #TITLE}) showing an animation.
+     */
+    private int animatedLines;
+
+    /**
+     * Pre-rendered animation of each line (and {@link #TITLE}), or null if it is not animated.
+     */
+    private final Animation[] animations = new Animation[TITLE + 1];
+
+    /**
+     * Shared lines whose rendered content below is up to date.
+     */
+    private int sharedFresh;
+
+    /**
+     * Rendered content of shared lines, reused for every player.
+     */
+    private final SharedRender shared = new SharedRender();
+
+    /**
+     * Interval in ticks between updates of this view, or 0 to use the service's interval.
+     */
+    @Getter
+    private int updateInterval;
+
+    /**
+     * Refresh interval of each line (and {@link #TITLE}): a period in ticks, 0 for only on
+     * invalidation, or -1 to follow the line's dependencies.
+     */
+    private final int[] refreshIntervals = new int[TITLE + 1];
+
+    /**
+     * Lines (and {@link #TITLE}) refreshed by each periodic refresh interval.
+     */
+    private final Map<Integer, Integer> refreshGroups = new HashMap<>();
+
+    /**
+     * Scheduler of the service this view is registered with, or null.
      */
-    private static final List<String> uniqueEntries = List.of(
-            ChatColor.COLOR_CHAR + "0", ChatColor.COLOR_CHAR + "1", ChatColor.COLOR_CHAR + "2",
-            ChatColor.COLOR_CHAR + "3", ChatColor.COLOR_CHAR + "4", ChatColor.COLOR_CHAR + "5",
-            ChatColor.COLOR_CHAR + "6", ChatColor.COLOR_CHAR + "7", ChatColor.COLOR_CHAR + "8",
-            ChatColor.COLOR_CHAR + "9", ChatColor.COLOR_CHAR + "a", ChatColor.COLOR_CHAR + "b",
-            ChatColor.COLOR_CHAR + "c", ChatColor.COLOR_CHAR + "d", ChatColor.COLOR_CHAR + "e"
-    );
+    private SidebarDriver.Host host;
+
+    /**
+     * Executor rendering pipelined passes, or null to render on the main thread.
+     */
+    @Getter
+    private Executor renderExecutor;
+
+    /**
+     * Pipelined pass that has been started but not yet applied, or null.
+     */
+    private RenderPass pendingPass;
+
+    /**
+     * Backend that sidebar canvases are created with.
+     */
+    @Getter
+    private SidebarBackend backend = BukkitSidebarBackend.INSTANCE;
+
+    /**
+     * Registry providing placeholders below the view's own, or null.
+     */
+    @Getter
+    private PlaceholderRegistry placeholderRegistry;
+
+    /**
+     * Whether players with equal content share a canvas.
+     */
+    @Getter
+    private boolean grouping;
 
     /**
-     * Serializer for converting Adventure components to legacy text format.
-     * Used for compatibility with Bukkit's scoreboard system.
+     * Groups of players sharing a canvas, by the content they show. Keys are never modified
+     * while they are in the map.
      */
-    private static final LegacyComponentSerializer SERIALIZER = LegacyComponentSerializer.legacySection();
+    private final Map<SidebarFrame, ContentGroup> groups = new HashMap<>();
 
     /**
-     * Cache of the last literal line content for each player.
-     * Used to optimize updates by only changing lines that have actually changed.
+     * Update counters and render timings of this view.
      */
-    private final Map<UUID, Map<Integer, String>> lastLiteralLines = new HashMap<>();
+    @Getter
+    private final SidebarStats stats = new SidebarStats();
 
     /**
      * Creates a new SidebarView with the specified scoreboard identifier.
@@ -112,25 +320,37 @@ public abstract class SidebarView {
      */
     public SidebarView(String scoreboardId) {
         this.SCOREBOARD_ID = scoreboardId;
-        this.players = new HashSet<>();
+        this.players = new HashMap<>();
         this.title = new Message(ph -> Component.text(scoreboardId));
-        this.lines = new Line[15];
+        this.titleDependencies = Set.of();
+        this.lines = new Line[SidebarDiffEngine.MAX_LINES];
 
         for (int i = 0; i < lines.length; i++) {
-            lines[i] = new LiteralLine(new Message(ph -> Component.empty()));
+            lines[i] = new LiteralLine(new Message(ph -> Component.empty()), Set.of(), true);
         }
+        Arrays.fill(refreshIntervals, -1);
+        indexDependencies();
     }
 
     /**
      * Assigns a player to view this scoreboard.
      *
      * <p>The player will receive this scoreboard on their next update cycle.
-     * If the player is already assigned, this method has no effect.</p>
+     * If the player is already assigned, this method has no effect. Assigning a player to several
+     * views makes them fight over the scoreboard; use {@link SidebarService#showView(UUID, String)}
+     * to switch views instead. For registered views, the assignment ends when the player quits;
+     * a view set through the service is restored if they join again shortly after.</p>
      *
      * @param playerId UUID of the player to assign to this scoreboard
      */
     public void assignPlayer(UUID playerId) {
-        players.add(playerId);
+        if (players.containsKey(playerId)) return;
+
+        PlayerSidebar sidebar = new PlayerSidebar(playerId, placeholders,
+                placeholderRegistry != null ? placeholderRegistry.forPlayer(playerId) : null);
+        players.put(playerId, sidebar);
+        addSidebar(sidebar);
+        if (host != null) host.playerAssigned(this, playerId);
     }
 
     /**
@@ -142,34 +362,284 @@ public abstract class SidebarView {
      * @param playerId UUID of the player to assign to this scoreboard
      */
     public void unassignPlayer(UUID playerId) {
-        players.remove(playerId);
-        lastLiteralLines.remove(playerId);
-        Player player = Bukkit.getPlayer(playerId);
-        if (player != null && player.isOnline() && player.getScoreboard().getObjective(SCOREBOARD_ID) != null) {
-            player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+        PlayerSidebar sidebar = players.remove(playerId);
+        if (sidebar == null) return;
+
+        removeSidebar(sidebar);
+        if (host != null) host.playerUnassigned(this, playerId);
+        hide(sidebar);
+        sidebar.player = null;
+    }
+
+    /**
+     * Returns the players currently assigned to this scoreboard.
+     *
+     * @return an unmodifiable view of the assigned players' UUIDs
+     */
+    public Set<UUID> getPlayers() {
+        return Collections.unmodifiableSet(players.keySet());
+    }
+
+    /**
+     * Replaces the backend that sidebars are rendered through.
+     *
+     * <p>Players lose their current sidebar and receive a new one from the given backend
+     * on the next update cycle.</p>
+     *
+     * @param backend the new backend, e.g. {@link BukkitSidebarBackend#INSTANCE}
+     */
+    public void setBackend(SidebarBackend backend) {
+        dropCanvases();
+        this.backend = backend;
+    }
+
+    /**
+     * Binds this view to the scheduler of the service it is registered with.
+     *
+     * @param host the scheduler, or null when the view is unregistered
+     */
+    void bind(SidebarDriver.Host host) {
+        this.host = host;
+    }
+
+    /**
+     * Sets the registry whose placeholders lines receive below the view's own placeholders.
+     * Called by the service on registration. All lines are re-rendered on the next update cycle.
+     *
+     * @param placeholderRegistry the registry, or null to only use the view's placeholders
+     */
+    public void setPlaceholderRegistry(PlaceholderRegistry placeholderRegistry) {
+        this.placeholderRegistry = placeholderRegistry;
+        for (int i = 0; i < size; i++) {
+            PlayerSidebar sidebar = sidebars[i];
+            sidebar.placeholders.setProvided(
+                    placeholderRegistry != null ? placeholderRegistry.forPlayer(sidebar.playerId) : null);
+        }
+        markDirty(ALL);
+    }
+
+    /**
+     * Sets how often this view is updated.
+     *
+     * <p>An update sends placeholder changes, invalidated lines and lines without declared
+     * dependencies. Lines with their own refresh interval are not affected.</p>
+     *
+     * @param ticks interval in ticks, or 0 to use the service's interval
+     */
+    public void setUpdateInterval(int ticks) {
+        if (ticks < 0) throw new IllegalArgumentException("Update interval must not be negative");
+        this.updateInterval = ticks;
+        reschedule();
+    }
+
+    /**
+     * Sets how often a line is re-rendered, independent of the view's update interval.
+     *
+     * <p>The interval belongs to the slot and is kept when the line is replaced.</p>
+     *
+     * @param lineNumber Line index (0-14) where 0 is the top line
+     * @param ticks interval in ticks; 0 to only re-render on placeholder changes and invalidation;
+     *              -1 to re-render every update if the line declares no dependencies
+     * @throws IndexOutOfBoundsException if lineNumber is not between 0 and 14
+     */
+    public void setRefreshInterval(int lineNumber, int ticks) {
+        if (lineNumber < 0 || lineNumber >= lines.length) {
+            throw new IndexOutOfBoundsException("Line number must be between 0 and 14");
+        }
+        setRefreshIntervalOf(lineNumber, ticks);
+    }
+
+    /**
+     * Sets how often the title is re-rendered, independent of the view's update interval.
+     *
+     * @param ticks interval in ticks; 0 to only re-render on placeholder changes and invalidation;
+     *              -1 to re-render every update if the title declares no dependencies
+     */
+    public void setTitleRefreshInterval(int ticks) {
+        setRefreshIntervalOf(TITLE, ticks);
+    }
+
+    private void setRefreshIntervalOf(int bit, int ticks) {
+        if (ticks < -1) throw new IllegalArgumentException("Refresh interval must be -1 or more");
+        refreshIntervals[bit] = ticks;
+        indexDependencies();
+        reschedule();
+    }
+
+    /**
+     * Returns the distinct periodic refresh intervals declared for the lines and title, including
+     * the periods of animations.
+     *
+     * @return intervals in ticks
+     */
+    public Set<Integer> getRefreshIntervals() {
+        return Set.copyOf(refreshGroups.keySet());
+    }
+
+    /**
+     * Marks every line with the given refresh interval to be re-rendered on the next update.
+     * Called by the scheduler at each refresh point.
+     *
+     * @param interval a refresh interval returned by {@link #getRefreshIntervals()}
+     */
+    void refresh(int interval) {
+        Integer group = refreshGroups.get(interval);
+        if (group == null) return;
+
+        for (int bits = group & animatedLines; bits != 0; bits &= bits - 1) {
+            int i = Integer.numberOfTrailingZeros(bits);
+            animations[i].advance();
+            if (i != TITLE) shared.literals[i] = animations[i].legacy();
+        }
+        markDirty(group);
+    }
+
+    private void reschedule() {
+        if (host != null) {
+            host.intervalsChanged(this);
+        }
+    }
+
+    /**
+     * Switches between main-thread and pipelined rendering.
+     *
+     * <p>With an executor, {@link #tick()} only captures a snapshot and the rendering happens on
+     * the executor; {@link #apply()} has to be called regularly on the main thread to send the
+     * results. Players lose their current sidebar and receive a new one on the next update cycle.</p>
+     *
+     * @param renderExecutor executor to render on, or null to render on the main thread
+     */
+    public void setRenderExecutor(Executor renderExecutor) {
+        dropCanvases();
+        this.renderExecutor = renderExecutor;
+    }
+
+    /**
+     * Switches between one canvas per player and one canvas per distinct content.
+     *
+     * <p>With grouping, players whose rendered title and lines are identical share a single
+     * scoreboard. This saves memory and update work when many players see the same sidebar, but
+     * costs a content comparison whenever a player's lines change. Grouping is ignored while
+     * rendering is pipelined. Players lose their current sidebar and receive a new one on the
+     * next update cycle.</p>
+     *
+     * @param grouping whether players with equal content should share a canvas
+     */
+    public void setGrouping(boolean grouping) {
+        dropCanvases();
+        this.grouping = grouping;
+    }
+
+    /**
+     * Returns the number of canvases currently shared by grouped players.
+     *
+     * @return the number of distinct contents shown; 0 if grouping is disabled
+     */
+    public int getGroupCount() {
+        return groups.size();
+    }
+
+    /**
+     * Hides every sidebar and forgets the canvases, so they are created again on the next tick.
+     * A pass that is still rendering is discarded.
+     */
+    private void dropCanvases() {
+        for (int i = 0; i < size; i++) {
+            PlayerSidebar sidebar = sidebars[i];
+            hide(sidebar);
+            sidebar.engine = null;
+            sidebar.frame = null;
+            sidebar.dirty = 0;
+            requestUpdate(sidebar);
+        }
+        groups.clear();
+        pendingPass = null;
+    }
+
+    /**
+     * Hides the player's canvas, own or shared, and leaves their group.
+     */
+    private void hide(PlayerSidebar sidebar) {
+        SidebarDiffEngine engine = sidebar.engine;
+        if (sidebar.group != null) {
+            engine = sidebar.group.engine;
+            leave(sidebar.group);
+            sidebar.group = null;
+        }
+
+        Player player = sidebar.player;
+        if (engine != null && player != null && player.isOnline()) {
+            engine.getCanvas().hide(player);
         }
     }
 
+    /**
+     * Updates the scoreboard title for all assigned players.
+     *
+     * <p>The title is re-rendered every tick. Prefer {@link #setTitle(Message, Set)} when
+     * the placeholders the title uses are known.</p>
+     *
+     * @param title New title message. Receives placeholders: player_name
+     */
+    protected void setTitle(Message title) {
+        setTitle(title, null);
+    }
+
     /**
      * Updates the scoreboard title for all assigned players.
      *
      * <p>The title message will receive placeholders including the viewing player's name.
      * This method immediately updates the title for all online players currently viewing
-     * this scoreboard.</p>
+     * this scoreboard, or on the next pass when rendering is pipelined.</p>
      *
      * @param title New title message. Receives placeholders: player_name
+     * @param dependencies Placeholders the title depends on, or null to re-render it every tick
      */
-    protected void setTitle(Message title) {
+    protected void setTitle(Message title, Set<String> dependencies) {
+        boolean wasAnimated = animations[TITLE] != null;
         this.title = title;
-        for (UUID playerId : players) {
-            Player player = Bukkit.getPlayer(playerId);
-            if (player != null && player.isOnline()) {
-                Objective obj = player.getScoreboard().getObjective(SCOREBOARD_ID);
-                if (obj != null) {
-                    obj.displayName(title.getComponent(Map.of("player_name", player.getName())));
-                }
+        this.titleDependencies = dependencies;
+        animations[TITLE] = null;
+        indexDependencies();
+        if (wasAnimated) reschedule();
+
+        if (renderExecutor != null || grouping) {
+            invalidateTitle();
+            return;
+        }
+
+        for (int i = 0; i < size; i++) {
+            PlayerSidebar sidebar = sidebars[i];
+            if (sidebar.engine != null && onlinePlayer(sidebar) != null) {
+                sidebar.engine.setTitle(renderTitle(placeholdersOf(sidebar)));
+                sidebar.dirty &= ~(1 << TITLE);
+                stats.recordOperations(sidebar.engine.takeOperationCount());
             }
         }
+        contexts.releaseAll();
+    }
+
+    /**
+     * Replaces the title with an animation cycling through the given frames.
+     *
+     * <p>The frames are rendered once, now, with the placeholders set for all players; they don't
+     * follow later placeholder changes. The scheduler shows the next frame every {@code period}
+     * ticks, and the first frame is shown on the next update cycle.</p>
+     *
+     * @param frames Frames to cycle through, in order. Receive the placeholders set for all players
+     * @param period Ticks each frame is shown for
+     * @throws IllegalArgumentException if there are no frames or the period is not positive
+     */
+    protected void setAnimatedTitle(List<Message> frames, int period) {
+        Animation animation = Animation.render(frames, period, sharedContext(), false);
+        contexts.releaseAll();
+
+        this.title = frames.get(0);
+        this.titleDependencies = Set.of();
+        animations[TITLE] = animation;
+        indexDependencies();
+        reschedule();
+        invalidateTitle();
     }
 
     /**
@@ -179,146 +649,903 @@ public abstract class SidebarView {
      * to all assigned players on the next update cycle.</p>
      *
      * @param lineNumber Line index (0-14) where 0 is the top line
-     * @param line Line content, either {@link LiteralLine} or {@link DynamicLine}
+     * @param line Line content, either {@link LiteralLine}, {@link DynamicLine} or {@link AnimatedLine}
      * @throws IndexOutOfBoundsException if lineNumber is not between 0 and 14
      */
     protected void setLine(int lineNumber, Line line) {
         if (lineNumber < 0 || lineNumber >= lines.length) {
             throw new IndexOutOfBoundsException("Line number must be between 0 and 14");
         }
+        boolean wasAnimated = animations[lineNumber] != null;
+        if (line instanceof AnimatedLine animated) {
+            animations[lineNumber] = Animation.render(animated.frames(), animated.period(),
+                    sharedContext(), true);
+            contexts.releaseAll();
+            shared.literals[lineNumber] = animations[lineNumber].legacy();
+        } else {
+            animations[lineNumber] = null;
+        }
+
         lines[lineNumber] = line;
+        indexDependencies();
+        if (wasAnimated || animations[lineNumber] != null) reschedule();
+        invalidate(lineNumber);
+    }
+
+    /**
+     * Sets a placeholder for all players.
+     *
+     * <p>Lines depending on the placeholder are re-rendered on the next update cycle,
+     * unless the value did not change. Lines with a refresh interval pick it up at their next
+     * refresh point instead.</p>
+     *
+     * @param key Placeholder name
+     * @param value New value, or null to remove the placeholder
+     */
+    public void setPlaceholder(String key, String value) {
+        if (!changePlaceholder(placeholders, key, value)) return;
+
+        Integer affected = dependents.get(key);
+        if (affected != null) {
+            markDirty(affected);
+        }
+    }
+
+    /**
+     * Sets a placeholder for a single player, overriding the value for all players.
+     *
+     * <p>Lines depending on the placeholder are re-rendered for that player on the next
+     * update cycle, unless the value did not change. Has no effect if the player is not assigned.
+     * Shared lines don't see player-specific placeholders. Lines with a refresh interval pick it
+     * up at their next refresh point instead.</p>
+     *
+     * @param playerId UUID of the player
+     * @param key Placeholder name
+     * @param value New value, or null to remove the placeholder
+     */
+    public void setPlaceholder(UUID playerId, String key, String value) {
+        PlayerSidebar sidebar = players.get(playerId);
+        if (sidebar == null || !changePlaceholder(sidebar.placeholders, key, value)) return;
+
+        Integer affected = playerDependents.get(key);
+        if (affected != null) {
+            sidebar.dirty |= affected;
+        }
+    }
+
+    /**
+     * Marks a line to be re-rendered for all players on the next update cycle.
+     *
+     * <p>Use this for lines whose content changes for reasons the placeholders don't capture.</p>
+     *
+     * @param lineNumber Line index (0-14) where 0 is the top line
+     * @throws IndexOutOfBoundsException if lineNumber is not between 0 and 14
+     */
+    public void invalidate(int lineNumber) {
+        if (lineNumber < 0 || lineNumber >= lines.length) {
+            throw new IndexOutOfBoundsException("Line number must be between 0 and 14");
+        }
+        markDirty(1 << lineNumber);
+    }
+
+    /**
+     * Marks the title to be re-rendered for all players on the next update cycle.
+     */
+    public void invalidateTitle() {
+        markDirty(1 << TITLE);
+    }
+
+    /**
+     * Marks lines dirty for every player and drops their shared renders.
+     *
+     * @param mask line bits (and the {@link #TITLE} bit) to mark
+     */
+    private void markDirty(int mask) {
+        sharedFresh &= ~mask;
+        for (int i = 0; i < size; i++) {
+            sidebars[i].dirty |= mask;
+        }
     }
 
     /**
      * Updates the scoreboard for all assigned players.
      *
-     * <p>This method is called automatically and performs the following operations:</p>
+     * <p>This method performs the following operations:</p>
      * <ul>
-     *   <li>Creates new scoreboards for players who don't have one</li>
-     *   <li>Updates existing scoreboards with current content</li>
-     *   <li>Optimizes updates by only changing modified lines</li>
+     *   <li>Creates new sidebars for players who don't have one</li>
+     *   <li>Shows the sidebar again to players whose scoreboard was replaced</li>
+     *   <li>Re-renders dirty lines and sends only the changes to each client</li>
      *   <li>Skips offline players automatically</li>
      * </ul>
      *
      * <p>All {@link Message} components are evaluated with placeholders including
-     * the current player's name.</p>
+     * the current player's name. The {@link SidebarService} does not call this method, but spreads
+     * the same work over several ticks. In pipelined mode, this starts a pass over all players
+     * unless the previous one has not been applied yet.</p>
      */
     public void tick() {
-        for (UUID playerId : players) {
-            Player player = Bukkit.getPlayer(playerId);
-            if (player != null && player.isOnline()) {
-                if (player.getScoreboard().getObjective(SCOREBOARD_ID) == null) {
-                    createNewScoreboard(player);
-                } else {
-                    updateScoreboard(player);
-                }
+        invalidateVolatile();
+        long start = System.nanoTime();
+        if (renderExecutor != null) {
+            startPass(players.keySet());
+        } else {
+            for (int i = 0; i < size; i++) {
+                updateSidebar(sidebars[i]);
             }
+            contexts.releaseAll();
+        }
+        stats.recordTick(System.nanoTime() - start);
+    }
+
+    /**
+     * Marks the lines and title that declared neither dependencies nor a refresh interval dirty.
+     * Called by the scheduler at each point of the view's update interval.
+     */
+    void invalidateVolatile() {
+        if (volatileLines != 0) {
+            markDirty(volatileLines);
         }
     }
 
     /**
-     * Creates a completely new scoreboard for the specified player.
+     * Updates players taken from the front of the scheduler's queue until it is empty or the
+     * deadline has passed.
      *
-     * <p>This method is called when a player doesn't have an existing scoreboard
-     * with the current scoreboard ID. It creates all lines from scratch and applies
-     * the current title and line configuration.</p>
+     * <p>The deadline is checked before each player, so a player's update is never cut short.
+     * In pipelined mode, all queued players are captured into the next render pass instead. While
+     * the previous pass is still rendering they stay queued for the next one, which is not
+     * reported as unfinished since the deadline plays no part in it.</p>
      *
-     * @param player Player to create the scoreboard for
+     * @param queue players waiting to be updated; processed players are removed
+     * @param deadlineNanos {@link System#nanoTime()} after which no further player is started
+     * @return whether every queued player has been processed or handed to the render pass
      */
-    private void createNewScoreboard(Player player) {
-        Scoreboard scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
-        Objective objective = scoreboard.registerNewObjective(SCOREBOARD_ID, Criteria.DUMMY,
-                title.getComponent(Map.of("player_name", player.getName())));
-        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+    boolean update(SequencedSet<UUID> queue, long deadlineNanos) {
+        long start = System.nanoTime();
+        if (renderExecutor != null) {
+            if (startPass(queue)) queue.clear();
+            stats.recordTick(System.nanoTime() - start);
+            return true;
+        }
 
-        Map<Integer, String> lastLines = new HashMap<>();
+        while (!queue.isEmpty() && System.nanoTime() < deadlineNanos) {
+            PlayerSidebar sidebar = players.get(queue.removeFirst());
+            if (sidebar != null) updateSidebar(sidebar);
+        }
+        contexts.releaseAll();
+        stats.recordTick(System.nanoTime() - start);
+        return queue.isEmpty();
+    }
 
-        for (int i = 0, score = 15; i < lines.length && score > 0; i++, score--) {
-            Line line = lines[i];
-            String entry = uniqueEntries.get(i);
+    /**
+     * Brings one player's sidebar up to date on the main thread, creating it if needed.
+     * Offline players are skipped.
+     */
+    private void updateSidebar(PlayerSidebar sidebar) {
+        Player player = onlinePlayer(sidebar);
+        if (player == null) return;
+
+        if (grouping) {
+            updateGrouped(player, sidebar);
+        } else if (sidebar.engine == null) {
+            createNewScoreboard(player, sidebar);
+        } else {
+            updateScoreboard(player, sidebar);
+        }
+        SidebarDiffEngine engine = sidebar.group != null ? sidebar.group.engine : sidebar.engine;
+        stats.recordOperations(engine.takeOperationCount());
+    }
+
+    private void addSidebar(PlayerSidebar sidebar) {
+        if (size == sidebars.length) {
+            sidebars = Arrays.copyOf(sidebars, size * 2);
+        }
+        sidebar.index = size;
+        sidebars[size++] = sidebar;
+    }
+
+    private void removeSidebar(PlayerSidebar sidebar) {
+        PlayerSidebar last = sidebars[--size];
+        sidebars[sidebar.index] = last;
+        last.index = sidebar.index;
+        sidebars[size] = null;
+
+        if (sidebars.length > MIN_CAPACITY && size < sidebars.length / 4) {
+            sidebars = Arrays.copyOf(sidebars, sidebars.length / 2);
+        }
+    }
+
+    /**
+     * Returns the player if they are online, refreshing the cached reference only when it went stale,
+     * e.g. because the player reconnected.
+     */
+    private static Player onlinePlayer(PlayerSidebar sidebar) {
+        Player player = sidebar.player;
+        if (player == null || !player.isOnline()) {
+            player = Bukkit.getPlayer(sidebar.playerId);
+            sidebar.player = player;
+        }
+        return player != null && player.isOnline() ? player : null;
+    }
+
+    /**
+     * Asks the scheduler to update the player soon, outside of their bucket.
+     */
+    private void requestUpdate(PlayerSidebar sidebar) {
+        if (host != null) host.updateRequested(this, sidebar.playerId);
+    }
+
+    /**
+     * Creates a completely new sidebar for the specified player.
+     *
+     * <p>The canvas is filled with the current title and lines before it is shown,
+     * so the client receives the complete sidebar at once.</p>
+     *
+     * @param player Player to create the sidebar for
+     * @param sidebar State of the player
+     */
+    private void createNewScoreboard(Player player, PlayerSidebar sidebar) {
+        sidebar.placeholders.put("player_name", player.getName());
+        Map<String, String> placeholders = placeholdersOf(sidebar);
+        Component renderedTitle = renderTitle(placeholders);
+
+        sidebar.engine = new SidebarDiffEngine(backend.createCanvas(SCOREBOARD_ID, renderedTitle), renderedTitle);
+        stats.recordAllocation();
+        for (int i = 0; i < lines.length; i++) {
+            renderLine(sidebar.engine, i, placeholders);
+        }
+        sidebar.dirty = 0;
+        stats.recordPlayer(TITLE + 1, 0);
+
+        sidebar.engine.getCanvas().show(player);
+    }
+
+    /**
+     * Updates an existing sidebar for the specified player.
+     *
+     * <p>Only the title and lines marked dirty are rendered. If another plugin replaced the
+     * player's scoreboard, the existing canvas is shown again instead of allocating a new one.</p>
+     *
+     * @param player Player whose sidebar should be updated
+     * @param sidebar State of the player
+     */
+    private void updateScoreboard(Player player, PlayerSidebar sidebar) {
+        renderDirty(sidebar.engine, sidebar);
+
+        if (!sidebar.engine.getCanvas().isShownTo(player)) {
+            sidebar.engine.getCanvas().show(player);
+        }
+    }
+
+    /**
+     * Renders the player's dirty title and lines into their frame and moves them to the group
+     * showing the same content.
+     *
+     * @param player Player whose sidebar should be updated
+     * @param sidebar State of the player
+     */
+    private void updateGrouped(Player player, PlayerSidebar sidebar) {
+        if (sidebar.frame == null) {
+            sidebar.placeholders.put("player_name", player.getName());
+            sidebar.frame = new SidebarFrame();
+            sidebar.dirty = ALL;
+        }
+
+        int rendered = renderDirty(sidebar.frame, sidebar);
+        if (rendered != 0 || sidebar.group == null) {
+            regroup(player, sidebar, rendered);
+        }
+
+        SidebarCanvas canvas = sidebar.group.engine.getCanvas();
+        if (!canvas.isShownTo(player)) {
+            canvas.show(player);
+        }
+    }
+
+    /**
+     * Moves a player to the group whose content equals their frame.
+     *
+     * <p>If no other group matches, the canvas the player already sees is updated in place when
+     * they are alone in their group, or when only shared or animated content changed: that content
+     * changes the same way for every member, who will find the group showing their new content
+     * when they are updated.
+     * Otherwise a new group is created and filled before it is shown.</p>
+     *
+     * @param rendered line bits (and the {@link #TITLE} bit) just rendered into the player's frame
+     */
+    private void regroup(Player player, PlayerSidebar sidebar, int rendered) {
+        ContentGroup current = sidebar.group;
+        ContentGroup target = groups.get(sidebar.frame);
+        if (target != null && target == current) return;
 
-            if (line instanceof LiteralLine literal) {
-                Component comp = literal.message().getComponent(Map.of("player_name", player.getName()));
+        if (target == null && current != null
+                && (current.members == 1 || (rendered & ~(sharedLines | animatedLines)) == 0)) {
+            groups.remove(current.content);
+            current.content = sidebar.frame.copy();
+            current.content.applyTo(current.engine);
+            groups.put(current.content, current);
+            return;
+        }
+
+        if (target == null) {
+            Component renderedTitle = sidebar.frame.getTitle();
+            target = new ContentGroup(new SidebarDiffEngine(
+                    backend.createCanvas(SCOREBOARD_ID, renderedTitle), renderedTitle), sidebar.frame.copy());
+            target.content.applyTo(target.engine);
+            groups.put(target.content, target);
+            stats.recordAllocation();
+        }
+
+        target.members++;
+        sidebar.group = target;
+        target.engine.getCanvas().show(player);
+        if (current != null) leave(current);
+    }
+
+    private void leave(ContentGroup group) {
+        if (--group.members == 0) {
+            groups.remove(group.content);
+        }
+    }
+
+    /**
+     * Renders the player's dirty title and lines into the given sink and clears them.
+     *
+     * @return the line bits (and the {@link #TITLE} bit) that were rendered
+     */
+    private int renderDirty(LineSink sink, PlayerSidebar sidebar) {
+        int dirty = sidebar.dirty;
+        int rendered = Integer.bitCount(dirty);
+        stats.recordPlayer(rendered, TITLE + 1 - rendered);
+        if (dirty == 0) return 0;
+
+        Map<String, String> placeholders = placeholdersOf(sidebar);
+        if ((dirty & 1 << TITLE) != 0) {
+            sink.setTitle(renderTitle(placeholders));
+        }
+        for (int bits = dirty & ~(1 << TITLE); bits != 0; bits &= bits - 1) {
+            renderLine(sink, Integer.numberOfTrailingZeros(bits), placeholders);
+        }
+        sidebar.dirty = 0;
+        return dirty;
+    }
+
+    /**
+     * Returns the current title frame if the title is animated, or renders the title message.
+     */
+    private Component renderTitle(Map<String, String> placeholders) {
+        Animation animation = animations[TITLE];
+        return animation != null ? animation.component() : title.getComponent(placeholders);
+    }
+
+    /**
+     * Renders a line and hands the result to the diff engine or frame.
+     *
+     * <p>Shared lines are taken from the shared render, which is only refreshed when stale.</p>
+     *
+     * @param sink Diff engine or frame of the player being rendered for
+     * @param lineNumber Line index (0-14) to render
+     * @param placeholders Placeholders of the player being rendered for
+     */
+    private void renderLine(LineSink sink, int lineNumber, Map<String, String> placeholders) {
+        Line line = lines[lineNumber];
+        if (line != null && line.shared() && (sharedFresh & 1 << lineNumber) == 0) {
+            renderShared(line, lineNumber, sharedContext(), shared);
+            sharedFresh |= 1 << lineNumber;
+        }
+        renderLine(line, lineNumber, sink, placeholders, shared);
+    }
+
+    private static void renderLine(Line line, int lineNumber, LineSink engine,
+                                   Map<String, String> placeholders, SharedRender shared) {
+        if (line instanceof LiteralLine literal) {
+            engine.setLiteral(lineNumber, literal.shared()
+                    ? shared.literals[lineNumber]
+                    : serialize(literal.message().getComponent(placeholders)));
+
+        } else if (line instanceof AnimatedLine) {
+            engine.setLiteral(lineNumber, shared.literals[lineNumber]);
+
+        } else if (line instanceof DynamicLine dynamic) {
+            if (dynamic.shared()) {
+                engine.setDynamic(lineNumber, dynamic.UID(), shared.prefixes[lineNumber], shared.suffixes[lineNumber]);
+            } else {
+                engine.setDynamic(lineNumber, dynamic.UID(),
+                        dynamic.prefix().getComponent(placeholders), dynamic.suffix().getComponent(placeholders));
+            }
 
-                if (comp.equals(Component.empty())) continue;
+        } else {
+            engine.clear(lineNumber);
+        }
+    }
+
+    /**
+     * Renders a shared line with the shared placeholders into the given shared render.
+     * Animated lines are kept current by {@link #refresh(int)} and are left alone.
+     */
+    private static void renderShared(Line line, int lineNumber, Map<String, String> placeholders, SharedRender shared) {
+        if (line instanceof LiteralLine literal) {
+            shared.literals[lineNumber] = serialize(literal.message().getComponent(placeholders));
+        } else if (line instanceof DynamicLine dynamic) {
+            shared.prefixes[lineNumber] = dynamic.prefix().getComponent(placeholders);
+            shared.suffixes[lineNumber] = dynamic.suffix().getComponent(placeholders);
+        }
+    }
+
+    /**
+     * Captures a snapshot of the given players and starts rendering it on the
+     * {@link #renderExecutor}. Does nothing while the previous pass has not been applied yet;
+     * dirty lines keep accumulating until then.
+     *
+     * @return whether the players were captured, false if the previous pass is still pending
+     */
+    private boolean startPass(Collection<UUID> playerIds) {
+        if (pendingPass != null) return false;
+
+        Map<String, String> viewSnapshot = null;
+        List<PlayerRender> renders = new ArrayList<>();
 
-                String serialized = SERIALIZER.serialize(comp);
-                objective.getScore(serialized).setScore(score);
-                lastLines.put(i, serialized);
+        for (UUID playerId : playerIds) {
+            PlayerSidebar sidebar = players.get(playerId);
+            if (sidebar == null) continue;
 
-            } else if (line instanceof DynamicLine dyn) {
-                Component prefix = dyn.prefix.getComponent(Map.of("player_name", player.getName()));
-                Component suffix = dyn.suffix.getComponent(Map.of("player_name", player.getName()));
+            Player player = onlinePlayer(sidebar);
+            if (player == null) continue;
 
-                if (prefix.equals(Component.empty()) && suffix.equals(Component.empty())) continue;
+            if (sidebar.engine == null) {
+                sidebar.placeholders.put("player_name", player.getName());
+                sidebar.buffer = new BufferedSidebarCanvas(backend.createCanvas(SCOREBOARD_ID, Component.empty()));
+                sidebar.engine = new SidebarDiffEngine(sidebar.buffer, Component.empty());
+                stats.recordAllocation();
+                sidebar.awaitingShow = true;
+                sidebar.dirty = ALL;
+            } else if (!sidebar.awaitingShow && !sidebar.engine.getCanvas().isShownTo(player)) {
+                sidebar.engine.getCanvas().show(player);
+            }
 
-                Team team = scoreboard.registerNewTeam(dyn.UID);
-                team.addEntry(entry);
-                team.prefix(prefix);
-                team.suffix(suffix);
-                objective.getScore(entry).setScore(score);
+            if (sidebar.dirty == 0) {
+                stats.recordPlayer(0, TITLE + 1);
+                continue;
             }
+
+            if (viewSnapshot == null) viewSnapshot = new HashMap<>(placeholders);
+            renders.add(new PlayerRender(sidebar, sidebar.engine, sidebar.buffer,
+                    sidebar.dirty, sidebar.placeholders.copy(viewSnapshot, providedKeys)));
+            sidebar.dirty = 0;
         }
 
-        lastLiteralLines.put(player.getUniqueId(), lastLines);
-        player.setScoreboard(scoreboard);
+        if (renders.isEmpty()) return true;
+
+        int sharedStale = sharedLines & ~animatedLines & ~sharedFresh;
+        sharedFresh |= sharedStale;
+
+        Animation titleAnimation = animations[TITLE];
+        RenderPass pass = new RenderPass(title, titleAnimation != null ? titleAnimation.component() : null,
+                lines.clone(), shared.copy(), sharedStale, captureShared(viewSnapshot), renders);
+        pass.start(renderExecutor);
+        pendingPass = pass;
+        return true;
     }
 
     /**
-     * Updates an existing scoreboard for the specified player.
+     * Copies the placeholders shared lines are rendered with: the view's placeholders together
+     * with the global provided values the lines use, which are resolved now on the main thread.
      *
-     * <p>This method optimizes performance by only updating lines that have changed
-     * since the last update. It handles both literal and dynamic line types appropriately.</p>
+     * <p>Kept apart from the snapshot the players' copies fall back to, which must not contain
+     * global values: those would hide the values per-player providers give for the same keys.</p>
      *
-     * @param player Player whose scoreboard should be updated
+     * @param viewSnapshot snapshot of the view's placeholders
      */
-    private void updateScoreboard(Player player) {
-        Scoreboard scoreboard = player.getScoreboard();
-        Objective objective = scoreboard.getObjective(SCOREBOARD_ID);
-        if (objective == null) return;
+    private Map<String, String> captureShared(Map<String, String> viewSnapshot) {
+        Map<String, String> snapshot = new HashMap<>(viewSnapshot);
+        Map<String, String> provided = sharedProvided();
+        if (provided == null) return snapshot;
 
-        Map<Integer, String> lastLines = lastLiteralLines.computeIfAbsent(player.getUniqueId(), id -> new HashMap<>());
+        if (providedKeys == null) {
+            provided.forEach(snapshot::putIfAbsent);
+        } else {
+            for (String key : providedKeys) {
+                String value = provided.get(key);
+                if (value != null) snapshot.putIfAbsent(key, value);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Applies the scoreboard operations of a finished pipelined pass on the main thread.
+     *
+     * <p>Does nothing if rendering is not pipelined or the current pass is still rendering. In
+     * pipelined mode this should be called every server tick so results are sent as soon as they
+     * are ready.</p>
+     */
+    public void apply() {
+        RenderPass pass = pendingPass;
+        if (pass == null || !pass.future.isDone()) return;
+        pendingPass = null;
+        long start = System.nanoTime();
 
+        if (pass.future.isCompletedExceptionally()) {
+            Bukkit.getLogger().log(Level.WARNING, "Failed to render sidebar " + SCOREBOARD_ID,
+                    pass.future.exceptionNow());
+            sharedFresh &= ~pass.sharedStale;
+        }
+        shared.copyFrom(pass.shared, pass.sharedStale);
+
+        for (PlayerRender render : pass.renders) {
+            PlayerSidebar sidebar = render.sidebar;
+            if (players.get(sidebar.playerId) != sidebar || sidebar.engine != render.engine) continue;
+
+            if (render.remaining != 0) {
+                sidebar.dirty |= render.remaining;
+                requestUpdate(sidebar);
+            }
+            int rendered = Integer.bitCount(render.dirty & ~render.remaining);
+            stats.recordPlayer(rendered, TITLE + 1 - Integer.bitCount(render.dirty));
+            stats.recordOperations(render.engine.takeOperationCount());
+            render.buffer.flush();
+
+            Player player = onlinePlayer(sidebar);
+            if (sidebar.awaitingShow && player != null) {
+                sidebar.engine.getCanvas().show(player);
+                sidebar.awaitingShow = false;
+            }
+        }
+        stats.addToTick(System.nanoTime() - start);
+    }
+
+    /**
+     * Serializes a literal line through the {@link SerializationCache}, mapping empty components
+     * to null so the slot is hidden.
+     */
+    private static String serialize(Component component) {
+        return SerializationCache.serialize(component);
+    }
+
+    /**
+     * Acquires a render context for a player for the current pass.
+     *
+     * <p>The context layers over the player's placeholders, which in turn layer over the shared
+     * ones, so nothing is copied. Writes made by a message while rendering stay in the context.</p>
+     *
+     * @param sidebar State of the player
+     * @return a pooled context, valid until the end of the pass
+     */
+    private PlaceholderContext placeholdersOf(PlayerSidebar sidebar) {
+        return contexts.acquire(sidebar.placeholders);
+    }
+
+    /**
+     * Acquires a context with only the placeholders shared by all players, for the current pass.
+     */
+    private PlaceholderContext sharedContext() {
+        return contexts.acquire(placeholders, sharedProvided());
+    }
+
+    private Map<String, String> sharedProvided() {
+        return placeholderRegistry != null ? placeholderRegistry.global() : null;
+    }
+
+    /**
+     * Stores a placeholder value.
+     *
+     * @return whether the value changed
+     */
+    private static boolean changePlaceholder(Map<String, String> target, String key, String value) {
+        String previous = value == null ? target.remove(key) : target.put(key, value);
+        return !Objects.equals(previous, value);
+    }
+
+    /**
+     * Rebuilds {@link #dependents}, {@link #volatileLines}, {@link #providedKeys} and
+     * {@link #refreshGroups} from the title, the lines, their refresh intervals and animation periods.
+     */
+    private void indexDependencies() {
+        providedKeys = new HashSet<>();
+        dependents.clear();
+        playerDependents.clear();
+        volatileLines = 0;
+        sharedLines = 0;
+        animatedLines = 0;
+        refreshGroups.clear();
+
+        indexDependencies(TITLE, titleDependencies, false);
         for (int i = 0; i < lines.length; i++) {
             Line line = lines[i];
+            if (line != null) {
+                indexDependencies(i, line.dependencies(), line.shared());
+                if (line.shared()) sharedLines |= 1 << i;
+            }
+        }
+    }
+
+    private void indexDependencies(int bit, Set<String> dependencies, boolean shared) {
+        if (dependencies == null) {
+            providedKeys = null;
+        } else if (providedKeys != null) {
+            providedKeys.addAll(dependencies);
+        }
+
+        int mask = 1 << bit;
+        int refreshInterval = refreshIntervals[bit];
+        if (animations[bit] != null) {
+            animatedLines |= mask;
+            refreshInterval = animations[bit].period;
+        }
+        if (refreshInterval > 0) {
+            // Placeholder changes are picked up at the next refresh point, not in between.
+            refreshGroups.merge(refreshInterval, mask, (a, b) -> a | b);
+            return;
+        }
+
+        if (dependencies == null) {
+            if (refreshInterval < 0) volatileLines |= mask;
+            return;
+        }
+        for (String key : dependencies) {
+            dependents.merge(key, mask, (a, b) -> a | b);
+            if (!shared) {
+                playerDependents.merge(key, mask, (a, b) -> a | b);
+            }
+        }
+    }
+
+    /**
+     * Per-player sidebar state.
+     */
+    private static final class PlayerSidebar {
+        private final UUID playerId;
 
-            if (line instanceof LiteralLine(Message message)) {
-                Component comp = message.getComponent(Map.of("player_name", player.getName()));
-                String serialized = SERIALIZER.serialize(comp);
+        /**
+         * The player while they are online, so updates don't look them up by UUID every time.
+         */
+        private Player player;
 
-                String prev = lastLines.get(i);
+        /**
+         * Position in {@link #sidebars}.
+         */
+        private int index;
 
-                if (comp.equals(Component.empty())) {
-                    if (prev != null) {
-                        scoreboard.resetScores(prev);
-                        lastLines.remove(i);
-                    }
-                    continue;
-                }
+        /**
+         * Placeholders specific to this player, including <code>player_name</code>,
+         * layered over the placeholders shared by all players.
+         */
+        private final PlaceholderContext placeholders;
+
+        /**
+         * Line bits (and the {@link #TITLE} bit) that have to be re-rendered on the next update cycle.
+         */
+        private int dirty;
 
-                if (serialized.equals(prev)) continue;
+        /**
+         * Diff engine holding the model of what the client shows, or null if the player
+         * has no sidebar yet.
+         */
+        private SidebarDiffEngine engine;
 
-                if (prev != null) scoreboard.resetScores(prev);
+        /**
+         * Content rendered for this player when grouping, or null if not rendered yet.
+         */
+        private SidebarFrame frame;
 
-                objective.getScore(serialized).setScore(15 - i);
-                lastLines.put(i, serialized);
+        /**
+         * Group whose canvas this player is shown when grouping, or null.
+         */
+        private ContentGroup group;
 
-            } else if (line instanceof DynamicLine(String uid, Message prefixMessage, Message suffixMessage)) {
-                Team team = scoreboard.getTeam(uid);
-                if (team == null) continue;
+        /**
+         * Buffer the engine writes to in pipelined mode, or null when rendering on the main thread.
+         */
+        private BufferedSidebarCanvas buffer;
 
-                Component prefix = prefixMessage.getComponent(Map.of("player_name", player.getName()));
-                Component suffix = suffixMessage.getComponent(Map.of("player_name", player.getName()));
+        /**
+         * Whether the canvas is only shown once its first pipelined render has been applied.
+         */
+        private boolean awaitingShow;
 
-                if (prefix.equals(Component.empty()) && suffix.equals(Component.empty())) {
-                    team.prefix(Component.empty());
-                    team.suffix(Component.empty());
-		            scoreboard.resetScores(uniqueEntries.get(i));
-                    continue;
+        private PlayerSidebar(UUID playerId, Map<String, String> shared, Map<String, String> provided) {
+            this.playerId = playerId;
+            this.player = Bukkit.getPlayer(playerId);
+            this.placeholders = new PlaceholderContext(shared, provided);
+        }
+    }
+
+    /**
+     * Ring of pre-rendered animation frames and the position of the frame currently shown.
+     */
+    private static final class Animation {
+        private final Component[] frames;
+
+        /**
+         * Legacy text of each frame for literal lines, or null for the title.
+         */
+        private final String[] legacy;
+        private final int period;
+        private int cursor;
+
+        private Animation(Component[] frames, String[] legacy, int period) {
+            this.frames = frames;
+            this.legacy = legacy;
+            this.period = period;
+        }
+
+        /**
+         * Renders every frame once with the given placeholders.
+         *
+         * @param serialize whether to also serialize the frames for a literal line
+         */
+        private static Animation render(List<Message> frames, int period, Map<String, String> placeholders,
+                                        boolean serialize) {
+            if (frames.isEmpty()) throw new IllegalArgumentException("Animation must have at least one frame");
+            if (period <= 0) throw new IllegalArgumentException("Animation period must be positive");
+
+            Component[] rendered = new Component[frames.size()];
+            String[] legacy = serialize ? new String[rendered.length] : null;
+            for (int i = 0; i < rendered.length; i++) {
+                rendered[i] = frames.get(i).getComponent(placeholders);
+                if (serialize) legacy[i] = serialize(rendered[i]);
+            }
+            return new Animation(rendered, legacy, period);
+        }
+
+        private void advance() {
+            cursor = cursor + 1 == frames.length ? 0 : cursor + 1;
+        }
+
+        private Component component() {
+            return frames[cursor];
+        }
+
+        private String legacy() {
+            return legacy[cursor];
+        }
+    }
+
+    /**
+     * Players sharing one canvas because they see the same content.
+     */
+    private static final class ContentGroup {
+        private final SidebarDiffEngine engine;
+
+        /**
+         * Content the canvas shows; replaced, never modified, while the group is in {@link #groups}.
+         */
+        private SidebarFrame content;
+
+        private int members;
+
+        private ContentGroup(SidebarDiffEngine engine, SidebarFrame content) {
+            this.engine = engine;
+            this.content = content;
+        }
+    }
+
+    /**
+     * Rendered content of shared lines.
+     */
+    private static final class SharedRender {
+        private final String[] literals = new String[SidebarDiffEngine.MAX_LINES];
+        private final Component[] prefixes = new Component[SidebarDiffEngine.MAX_LINES];
+        private final Component[] suffixes = new Component[SidebarDiffEngine.MAX_LINES];
+
+        private SharedRender copy() {
+            SharedRender copy = new SharedRender();
+            copy.copyFrom(this);
+            return copy;
+        }
+
+        private void copyFrom(SharedRender other) {
+            System.arraycopy(other.literals, 0, literals, 0, literals.length);
+            System.arraycopy(other.prefixes, 0, prefixes, 0, prefixes.length);
+            System.arraycopy(other.suffixes, 0, suffixes, 0, suffixes.length);
+        }
+
+        /**
+         * Copies only the given lines, so content updated since the other render was taken,
+         * such as animation frames, is kept.
+         */
+        private void copyFrom(SharedRender other, int mask) {
+            for (int bits = mask; bits != 0; bits &= bits - 1) {
+                int i = Integer.numberOfTrailingZeros(bits);
+                literals[i] = other.literals[i];
+                prefixes[i] = other.prefixes[i];
+                suffixes[i] = other.suffixes[i];
+            }
+        }
+    }
+
+    /**
+     * Everything one player's pipelined render needs, captured on the main thread.
+     */
+    private static final class PlayerRender {
+        private final PlayerSidebar sidebar;
+        private final SidebarDiffEngine engine;
+        private final BufferedSidebarCanvas buffer;
+        private final PlaceholderContext placeholders;
+
+        /**
+         * Line bits (and the {@link #TITLE} bit) captured for rendering.
+         */
+        private final int dirty;
+
+        /**
+         * Line bits (and the {@link #TITLE} bit) not rendered yet. Cleared by the worker as it
+         * goes and read by the main thread after the pass completed.
+         */
+        private int remaining;
+
+        private PlayerRender(PlayerSidebar sidebar, SidebarDiffEngine engine, BufferedSidebarCanvas buffer,
+                             int dirty, PlaceholderContext placeholders) {
+            this.sidebar = sidebar;
+            this.engine = engine;
+            this.buffer = buffer;
+            this.dirty = dirty;
+            this.remaining = dirty;
+            this.placeholders = placeholders;
+        }
+    }
+
+    /**
+     * A pipelined render pass over a snapshot of the view.
+     *
+     * <p>Stale shared lines are rendered first, then all players in parallel. Each player's engine
+     * is only touched by one worker, and the main thread does not touch it again before
+     * {@link #future} completed.</p>
+     */
+    private static final class RenderPass {
+        private final Message title;
+
+        /**
+         * Current frame of the animated title, or null if the title is rendered from {@link #title}.
+         */
+        private final Component titleFrame;
+        private final Line[] lines;
+        private final SharedRender shared;
+        private final int sharedStale;
+        private final Map<String, String> sharedPlaceholders;
+        private final List<PlayerRender> renders;
+        private CompletableFuture<Void> future;
+
+        private RenderPass(Message title, Component titleFrame, Line[] lines, SharedRender shared, int sharedStale,
+                           Map<String, String> sharedPlaceholders, List<PlayerRender> renders) {
+            this.title = title;
+            this.titleFrame = titleFrame;
+            this.lines = lines;
+            this.shared = shared;
+            this.sharedStale = sharedStale;
+            this.sharedPlaceholders = sharedPlaceholders;
+            this.renders = renders;
+        }
+
+        private void start(Executor executor) {
+            future = CompletableFuture.runAsync(this::renderShared, executor).thenCompose(ignored -> {
+                CompletableFuture<?>[] tasks = new CompletableFuture<?>[renders.size()];
+                for (int i = 0; i < tasks.length; i++) {
+                    PlayerRender render = renders.get(i);
+                    tasks[i] = CompletableFuture.runAsync(() -> render(render), executor);
                 }
+                return CompletableFuture.allOf(tasks);
+            });
+        }
 
-                team.prefix(prefix);
-                team.suffix(suffix);
+        private void renderShared() {
+            PlaceholderContext context = new PlaceholderContext(sharedPlaceholders);
+            for (int bits = sharedStale; bits != 0; bits &= bits - 1) {
+                int i = Integer.numberOfTrailingZeros(bits);
+                SidebarView.renderShared(lines[i], i, context, shared);
+                context.clear();
+            }
+        }
+
+        private void render(PlayerRender render) {
+            if ((render.remaining & 1 << TITLE) != 0) {
+                render.engine.setTitle(titleFrame != null ? titleFrame : title.getComponent(render.placeholders));
+                render.remaining &= ~(1 << TITLE);
+            }
+            while (render.remaining != 0) {
+                int i = Integer.numberOfTrailingZeros(render.remaining);
+                renderLine(lines[i], i, render.engine, render.placeholders, shared);
+                render.remaining &= ~(1 << i);
             }
         }
     }
@@ -328,7 +1555,25 @@ public abstract class SidebarView {
      *
      * <p>Implementations define different ways of displaying content on scoreboard lines.</p>
      */
-    public interface Line {}
+    public interface Line {
+        /**
+         * Returns the placeholders this line depends on.
+         *
+         * @return the placeholder names; an empty set if the line never changes, or null if
+         *         it has to be re-rendered every tick
+         */
+        Set<String> dependencies();
+
+        /**
+         * Returns whether this line looks the same for every player.
+         *
+         * <p>Shared lines are rendered once per view and only receive placeholders set
+         * for all players.</p>
+         *
+         * @return true if the line is rendered once and shown to all players
+         */
+        boolean shared();
+    }
 
     /**
      * A simple line containing a single message component.
@@ -337,8 +1582,63 @@ public abstract class SidebarView {
      * The entire line content is replaced when the message changes.</p>
      *
      * @param message Message component for this line. Receives placeholders: player_name
+     * @param dependencies Placeholders the message depends on, or null to re-render it every tick
+     * @param shared Whether the line is the same for every player, see {@link Line#shared()}
+     */
+    public record LiteralLine(Message message, Set<String> dependencies, boolean shared) implements Line {
+        /**
+         * Creates a literal line that is re-rendered every tick.
+         *
+         * @param message Message component for this line. Receives placeholders: player_name
+         */
+        public LiteralLine(Message message) {
+            this(message, null, false);
+        }
+
+        /**
+         * Creates a literal line that is rendered per player.
+         *
+         * @param message Message component for this line. Receives placeholders: player_name
+         * @param dependencies Placeholders the message depends on, or null to re-render it every tick
+         */
+        public LiteralLine(Message message, Set<String> dependencies) {
+            this(message, dependencies, false);
+        }
+    }
+
+    /**
+     * A line cycling through a fixed list of frames.
+     *
+     * <p>The frames are rendered and serialized once when the line is set, with the placeholders
+     * set for all players at that time, and shown to every player alike. The scheduler switches to
+     * the next frame every {@code period} ticks; the slot's refresh interval is ignored.</p>
+     *
+     * @param frames Frames to cycle through, in order. Receive the placeholders set for all players
+     * @param period Ticks each frame is shown for
      */
-    public record LiteralLine(Message message) implements Line {}
+    public record AnimatedLine(List<Message> frames, int period) implements Line {
+        public AnimatedLine {
+            if (frames.isEmpty()) throw new IllegalArgumentException("Animation must have at least one frame");
+            if (period <= 0) throw new IllegalArgumentException("Animation period must be positive");
+            frames = List.copyOf(frames);
+        }
+
+        /**
+         * @return an empty set; the line only changes when the scheduler advances it
+         */
+        @Override
+        public Set<String> dependencies() {
+            return Set.of();
+        }
+
+        /**
+         * @return true; all players see the same frame
+         */
+        @Override
+        public boolean shared() {
+            return true;
+        }
+    }
 
     /**
      * A line with separate prefix and suffix components for granular updates.
@@ -349,7 +1649,32 @@ public abstract class SidebarView {
      * @param UID Unique identifier for this dynamic line's team
      * @param prefix Left portion of the line. Receives placeholders: player_name
      * @param suffix Right portion of the line. Receives placeholders: player_name
+     * @param dependencies Placeholders the prefix and suffix depend on, or null to re-render them every tick
+     * @param shared Whether the line is the same for every player, see {@link Line#shared()}
      */
-    public record DynamicLine(String UID, Message prefix, Message suffix) implements Line {}
+    public record DynamicLine(String UID, Message prefix, Message suffix, Set<String> dependencies, boolean shared) implements Line {
+        /**
+         * Creates a dynamic line that is re-rendered every tick.
+         *
+         * @param UID Unique identifier for this dynamic line's team
+         * @param prefix Left portion of the line. Receives placeholders: player_name
+         * @param suffix Right portion of the line. Receives placeholders: player_name
+         */
+        public DynamicLine(String UID, Message prefix, Message suffix) {
+            this(UID, prefix, suffix, null, false);
+        }
+
+        /**
+         * Creates a dynamic line that is rendered per player.
+         *
+         * @param UID Unique identifier for this dynamic line's team
+         * @param prefix Left portion of the line. Receives placeholders: player_name
+         * @param suffix Right portion of the line. Receives placeholders: player_name
+         * @param dependencies Placeholders the prefix and suffix depend on, or null to re-render them every tick
+         */
+        public DynamicLine(String UID, Message prefix, Message suffix, Set<String> dependencies) {
+            this(UID, prefix, suffix, dependencies, false);
+        }
+    }
 }
 
@@ -0,0 +1,92 @@
+package com.pritam.bingocraft.api.sidebar.backend;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+/**
+ * {@link SidebarBackend} that renders each canvas to its own Bukkit {@link Scoreboard}.
+ *
+ * @author Pritam
+ * @since 1.0.0
+ */
+public class BukkitSidebarBackend implements SidebarBackend {
+    /**
+     * Shared instance; the backend itself is stateless.
+     */
+    public static final BukkitSidebarBackend INSTANCE = new BukkitSidebarBackend();
+
+    @Override
+    public SidebarCanvas createCanvas(String objectiveId, Component title) {
+        Scoreboard scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
+        Objective objective = scoreboard.registerNewObjective(objectiveId, Criteria.DUMMY, title);
+        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+
+        return new Canvas(scoreboard, objective);
+    }
+
+    private record Canvas(Scoreboard scoreboard, Objective objective) implements SidebarCanvas {
+
+        @Override
+        public void setTitle(Component title) {
+            objective.displayName(title);
+        }
+
+        @Override
+        public void setScore(String entry, int score) {
+            objective.getScore(entry).setScore(score);
+        }
+
+        @Override
+        public void resetScore(String entry) {
+            scoreboard.resetScores(entry);
+        }
+
+        @Override
+        public void registerTeam(String teamId, String entry) {
+            Team team = scoreboard.getTeam(teamId);
+            if (team == null) team = scoreboard.registerNewTeam(teamId);
+            team.addEntry(entry);
+        }
+
+        @Override
+        public void unregisterTeam(String teamId) {
+            Team team = scoreboard.getTeam(teamId);
+            if (team != null) team.unregister();
+        }
+
+        @Override
+        public void setTeamPrefix(String teamId, Component prefix) {
+            Team team = scoreboard.getTeam(teamId);
+            if (team != null) team.prefix(prefix);
+        }
+
+        @Override
+        public void setTeamSuffix(String teamId, Component suffix) {
+            Team team = scoreboard.getTeam(teamId);
+            if (team != null) team.suffix(suffix);
+        }
+
+        @Override
+        public void show(Player player) {
+            player.setScoreboard(scoreboard);
+        }
+
+        @Override
+        public void hide(Player player) {
+            if (isShownTo(player)) {
+                player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+            }
+        }
+
+        @Override
+        public boolean isShownTo(Player player) {
+            return player.getScoreboard() == scoreboard;
+        }
+    }
+}
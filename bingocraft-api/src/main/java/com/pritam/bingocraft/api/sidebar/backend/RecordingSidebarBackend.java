@@ -0,0 +1,254 @@
+package com.pritam.bingocraft.api.sidebar.backend;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+
+/**
+ * In-memory {@link SidebarBackend} that records every operation instead of sending it.
+ *
+ * <p>Each canvas keeps the state a client would see (title, scores and teams), and the
+ * backend counts operations by {@link OperationType}. This makes it possible to verify and
+ * benchmark how many updates a {@link com.pritam.bingocraft.api.sidebar.SidebarView} sends
+ * without running a server. Recording the full operation log is optional, so long benchmark
+ * runs can keep only the counters.
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * RecordingSidebarBackend backend = new RecordingSidebarBackend();
+ * view.setBackend(backend);
+ * view.tick();
+ * long sent = backend.getTotalCount();
+ * }</pre>
+ *
+ * @author Pritam
+ * @since 1.0.0
+ */
+public class RecordingSidebarBackend implements SidebarBackend {
+    /**
+     * Whether individual operations are appended to {@link #operations}.
+     */
+    private final boolean keepLog;
+
+    /**
+     * Number of operations issued, indexed by {@link OperationType#ordinal()}.
+     */
+    private final long[] counts = new long[OperationType.values().length];
+
+    /**
+     * Chronological log of issued operations, only filled if {@link #keepLog} is set.
+     */
+    private final List<Operation> operations = new ArrayList<>();
+
+    /**
+     * All canvases created by this backend.
+     */
+    private final List<RecordingCanvas> canvases = new ArrayList<>();
+
+    /**
+     * Creates a backend that counts operations and keeps a full operation log.
+     */
+    public RecordingSidebarBackend() {
+        this(true);
+    }
+
+    /**
+     * Creates a backend that counts operations and optionally keeps a full operation log.
+     *
+     * @param keepLog whether individual operations should be recorded
+     */
+    public RecordingSidebarBackend(boolean keepLog) {
+        this.keepLog = keepLog;
+    }
+
+    @Override
+    public SidebarCanvas createCanvas(String objectiveId, Component title) {
+        RecordingCanvas canvas = new RecordingCanvas(objectiveId, title);
+        canvases.add(canvas);
+        record(OperationType.CREATE, objectiveId, title);
+        return canvas;
+    }
+
+    /**
+     * Returns how many operations of the given type were issued since the last {@link #reset()}.
+     *
+     * @param type the operation type
+     * @return the number of operations
+     */
+    public long getCount(OperationType type) {
+        return counts[type.ordinal()];
+    }
+
+    /**
+     * Returns how many operations of any type were issued since the last {@link #reset()}.
+     *
+     * @return the total number of operations
+     */
+    public long getTotalCount() {
+        long total = 0;
+        for (long count : counts) total += count;
+        return total;
+    }
+
+    /**
+     * Returns the operations recorded since the last {@link #reset()}, oldest first.
+     *
+     * @return an unmodifiable view of the operation log; empty if logging is disabled
+     */
+    public List<Operation> getOperations() {
+        return Collections.unmodifiableList(operations);
+    }
+
+    /**
+     * Returns every canvas created by this backend.
+     *
+     * @return an unmodifiable view of the canvases
+     */
+    public List<RecordingCanvas> getCanvases() {
+        return Collections.unmodifiableList(canvases);
+    }
+
+    /**
+     * Clears the counters and the operation log. Canvas state is kept.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        operations.clear();
+    }
+
+    private void record(OperationType type, String target, Object value) {
+        counts[type.ordinal()]++;
+        if (keepLog) operations.add(new Operation(type, target, value));
+    }
+
+    /**
+     * Kinds of operations a canvas can receive.
+     */
+    public enum OperationType {
+        CREATE, TITLE, SET_SCORE, RESET_SCORE, REGISTER_TEAM, UNREGISTER_TEAM, TEAM_PREFIX, TEAM_SUFFIX, SHOW, HIDE
+    }
+
+    /**
+     * A single recorded operation.
+     *
+     * @param type the kind of operation
+     * @param target the entry, team or objective the operation applies to
+     * @param value the new value, such as a score or component; null if the operation has none
+     */
+    public record Operation(OperationType type, String target, Object value) {}
+
+    /**
+     * A team as a client would see it.
+     *
+     * @param entry the entry the team decorates
+     * @param prefix the current prefix
+     * @param suffix the current suffix
+     */
+    public record TeamState(String entry, Component prefix, Component suffix) {}
+
+    /**
+     * Canvas that keeps the client-visible state in memory.
+     */
+    public class RecordingCanvas implements SidebarCanvas {
+        private final String objectiveId;
+        private Component title;
+        private final Map<String, Integer> scores = new LinkedHashMap<>();
+        private final Map<String, TeamState> teams = new LinkedHashMap<>();
+        private final Set<UUID> viewers = new HashSet<>();
+
+        private RecordingCanvas(String objectiveId, Component title) {
+            this.objectiveId = objectiveId;
+            this.title = title;
+        }
+
+        @Override
+        public void setTitle(Component title) {
+            this.title = title;
+            record(OperationType.TITLE, objectiveId, title);
+        }
+
+        @Override
+        public void setScore(String entry, int score) {
+            scores.put(entry, score);
+            record(OperationType.SET_SCORE, entry, score);
+        }
+
+        @Override
+        public void resetScore(String entry) {
+            scores.remove(entry);
+            record(OperationType.RESET_SCORE, entry, null);
+        }
+
+        @Override
+        public void registerTeam(String teamId, String entry) {
+            teams.put(teamId, new TeamState(entry, Component.empty(), Component.empty()));
+            record(OperationType.REGISTER_TEAM, teamId, entry);
+        }
+
+        @Override
+        public void unregisterTeam(String teamId) {
+            teams.remove(teamId);
+            record(OperationType.UNREGISTER_TEAM, teamId, null);
+        }
+
+        @Override
+        public void setTeamPrefix(String teamId, Component prefix) {
+            teams.computeIfPresent(teamId, (id, team) -> new TeamState(team.entry(), prefix, team.suffix()));
+            record(OperationType.TEAM_PREFIX, teamId, prefix);
+        }
+
+        @Override
+        public void setTeamSuffix(String teamId, Component suffix) {
+            teams.computeIfPresent(teamId, (id, team) -> new TeamState(team.entry(), team.prefix(), suffix));
+            record(OperationType.TEAM_SUFFIX, teamId, suffix);
+        }
+
+        @Override
+        public void show(Player player) {
+            viewers.add(player.getUniqueId());
+            record(OperationType.SHOW, player.getName(), null);
+        }
+
+        @Override
+        public void hide(Player player) {
+            if (viewers.remove(player.getUniqueId())) {
+                record(OperationType.HIDE, player.getName(), null);
+            }
+        }
+
+        @Override
+        public boolean isShownTo(Player player) {
+            return viewers.contains(player.getUniqueId());
+        }
+
+        public String getObjectiveId() {
+            return objectiveId;
+        }
+
+        public Component getTitle() {
+            return title;
+        }
+
+        /**
+         * @return the shown entries and their scores, in insertion order
+         */
+        public Map<String, Integer> getScores() {
+            return Collections.unmodifiableMap(scores);
+        }
+
+        /**
+         * @return the registered teams by identifier
+         */
+        public Map<String, TeamState> getTeams() {
+            return Collections.unmodifiableMap(teams);
+        }
+
+        /**
+         * @return the UUIDs of the players this canvas is shown to
+         */
+        public Set<UUID> getViewers() {
+            return Collections.unmodifiableSet(viewers);
+        }
+    }
+}
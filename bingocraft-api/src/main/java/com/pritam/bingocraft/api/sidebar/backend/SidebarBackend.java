@@ -0,0 +1,28 @@
+package com.pritam.bingocraft.api.sidebar.backend;
+
+import net.kyori.adventure.text.Component;
+
+/**
+ * Output backend that sidebar operations are sent through.
+ *
+ * <p>A {@link com.pritam.bingocraft.api.sidebar.SidebarView} never touches scoreboards directly;
+ * it asks its backend for {@link SidebarCanvas canvases} and the
+ * {@link com.pritam.bingocraft.api.sidebar.SidebarDiffEngine} issues the minimal set of
+ * operations against them. {@link BukkitSidebarBackend} renders to real scoreboards, while
+ * {@link RecordingSidebarBackend} keeps everything in memory so updates can be counted
+ * without a server.
+ *
+ * @author Pritam
+ * @since 1.0.0
+ */
+public interface SidebarBackend {
+
+    /**
+     * Creates a new, empty sidebar with the given objective name and title.
+     *
+     * @param objectiveId identifier of the sidebar objective
+     * @param title initial title of the sidebar
+     * @return a canvas that is not yet shown to any player
+     */
+    SidebarCanvas createCanvas(String objectiveId, Component title);
+}
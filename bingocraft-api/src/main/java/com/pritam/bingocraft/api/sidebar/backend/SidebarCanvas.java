@@ -0,0 +1,93 @@
+package com.pritam.bingocraft.api.sidebar.backend;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+
+/**
+ * A single sidebar surface as seen by the players it is shown to.
+ *
+ * <p>Each method corresponds to one client-visible scoreboard operation. Callers are expected
+ * to only issue operations that actually change something; the canvas does not filter
+ * redundant calls.
+ *
+ * @author Pritam
+ * @since 1.0.0
+ * @see SidebarBackend
+ */
+public interface SidebarCanvas {
+
+    /**
+     * Changes the title shown above the sidebar lines.
+     *
+     * @param title the new title
+     */
+    void setTitle(Component title);
+
+    /**
+     * Shows an entry at the given score, or moves it there if it is already shown.
+     *
+     * @param entry the entry text
+     * @param score the score that positions the entry
+     */
+    void setScore(String entry, int score);
+
+    /**
+     * Removes an entry from the sidebar.
+     *
+     * @param entry the entry text
+     */
+    void resetScore(String entry);
+
+    /**
+     * Registers a team whose prefix and suffix decorate the given entry.
+     *
+     * @param teamId unique identifier of the team
+     * @param entry the entry the team applies to
+     */
+    void registerTeam(String teamId, String entry);
+
+    /**
+     * Removes a team registered with {@link #registerTeam(String, String)}.
+     *
+     * @param teamId identifier of the team
+     */
+    void unregisterTeam(String teamId);
+
+    /**
+     * Changes the prefix of a registered team.
+     *
+     * @param teamId identifier of the team
+     * @param prefix the new prefix
+     */
+    void setTeamPrefix(String teamId, Component prefix);
+
+    /**
+     * Changes the suffix of a registered team.
+     *
+     * @param teamId identifier of the team
+     * @param suffix the new suffix
+     */
+    void setTeamSuffix(String teamId, Component suffix);
+
+    /**
+     * Displays this canvas to a player, replacing whatever sidebar they saw before.
+     *
+     * @param player the player to show the canvas to
+     */
+    void show(Player player);
+
+    /**
+     * Stops displaying this canvas to a player if it is still shown to them.
+     *
+     * @param player the player to hide the canvas from
+     */
+    void hide(Player player);
+
+    /**
+     * Checks whether the player currently sees this canvas.
+     *
+     * @param player the player to check
+     * @return true if the canvas is displayed to the player
+     */
+    boolean isShownTo(Player player);
+}
@@ -1,7 +1,12 @@
 package com.pritam.bingocraft.api.utils;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import net.kyori.adventure.text.Component;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
@@ -20,6 +25,7 @@ import java.util.function.Function;
  *   <li>Default placeholder values</li>
  *   <li>Adventure Text Component integration</li>
  *   <li>Functional interface for flexible message building</li>
+ *   <li>Optional {@link #memoize(Collection, int) memoization} of rendered components</li>
  * </ul>
  *
  * <p>Example usage:</p>
@@ -48,6 +54,16 @@ public class Message {
      */
     private Map<String, String> defaultPlaceholders = new HashMap<>();
 
+    /**
+     * Placeholders rendered components are memoized by, or null if memoization is disabled.
+     */
+    private String[] memoKeys;
+
+    /**
+     * Rendered components by the values of {@link #memoKeys}, or null if memoization is disabled.
+     */
+    private Cache<Object, Component> memo;
+
     /**
      * Creates a new message with the specified component builder.
      *
@@ -74,15 +90,136 @@ public class Message {
     /**
      * Generates the Adventure Text Component for this message with the given placeholders.
      *
-     * <p>This method merges the provided placeholders with the default placeholders,
-     * with provided placeholders taking precedence. The resulting placeholder map
-     * is then passed to the component builder function to generate the final Component.</p>
+     * <p>The default placeholders are layered under the provided placeholders, with provided
+     * placeholders taking precedence. The given map is never modified, so immutable maps are
+     * accepted. When a {@link PlaceholderContext} is passed, the defaults are layered onto it
+     * for the duration of the call and nothing is allocated.</p>
      *
      * @param placeholders the placeholder values to substitute in the message
      * @return the generated Adventure Text Component
      */
     public Component getComponent(Map<String, String> placeholders) {
-        defaultPlaceholders.forEach(placeholders::putIfAbsent);
-        return componentBuilder.apply(placeholders);
+        if (memo == null) return build(placeholders);
+
+        Object key = memoKey(placeholders);
+        Component component = memo.getIfPresent(key);
+        if (component == null) {
+            component = build(placeholders);
+            memo.put(key, component);
+        }
+        return component;
+    }
+
+    /**
+     * Enables memoization of rendered components by the values of the given placeholders.
+     *
+     * <p>While enabled, rendering with placeholder values that were seen before returns the
+     * component built the first time instead of building it again, which pays off for messages
+     * sent to many players or rendered repeatedly. The message must depend on nothing but the
+     * given placeholders; values are resolved including the default placeholders. The least
+     * recently used components are evicted beyond {@code maximumSize}.</p>
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * Message scoreMessage = new Message(ph -> Component.text("Score: " + ph.get("score")))
+     *         .memoize(List.of("score"), 1000);
+     * }</pre>
+     *
+     * @param placeholders the placeholders the message depends on
+     * @param maximumSize maximum number of memoized components
+     * @return this message
+     */
+    public Message memoize(Collection<String> placeholders, int maximumSize) {
+        this.memoKeys = placeholders.toArray(String[]::new);
+        this.memo = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        return this;
+    }
+
+    /**
+     * Returns the hit and miss counts of the memoized components.
+     *
+     * @return the statistics, or null if memoization is disabled
+     */
+    public CacheStats getMemoStats() {
+        return memo != null ? memo.stats() : null;
+    }
+
+    /**
+     * Returns the number of memoized components.
+     *
+     * @return the approximate number of components, or 0 if memoization is disabled
+     */
+    public long getMemoSize() {
+        return memo != null ? memo.size() : 0;
+    }
+
+    /**
+     * Builds the memoization key from the resolved values of {@link #memoKeys}. A single value is
+     * used as the key directly, so the common case does not allocate.
+     */
+    private Object memoKey(Map<String, String> placeholders) {
+        if (memoKeys.length == 1) {
+            String value = resolve(placeholders, memoKeys[0]);
+            return value != null ? value : MemoKey.ABSENT;
+        }
+
+        String[] values = new String[memoKeys.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = resolve(placeholders, memoKeys[i]);
+        }
+        return new MemoKey(values);
+    }
+
+    private String resolve(Map<String, String> placeholders, String key) {
+        String value = placeholders.get(key);
+        return value != null ? value : defaultPlaceholders.get(key);
+    }
+
+    private Component build(Map<String, String> placeholders) {
+        if (defaultPlaceholders.isEmpty()) {
+            return componentBuilder.apply(placeholders);
+        }
+
+        PlaceholderContext context = placeholders instanceof PlaceholderContext existing
+                ? existing
+                : new PlaceholderContext(placeholders);
+
+        Map<String, String> previous = context.swapDefaults(defaultPlaceholders);
+        try {
+            return componentBuilder.apply(context);
+        } finally {
+            context.swapDefaults(previous);
+        }
+    }
+
+    /**
+     * Values of several memoized placeholders, compared by content.
+     */
+    private static final class MemoKey {
+        /**
+         * Key of a single placeholder without a value.
+         */
+        private static final MemoKey ABSENT = new MemoKey(new String[1]);
+
+        private final String[] values;
+        private final int hash;
+
+        private MemoKey(String[] values) {
+            this.values = values;
+            this.hash = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof MemoKey other && hash == other.hash && Arrays.equals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
     }
 }
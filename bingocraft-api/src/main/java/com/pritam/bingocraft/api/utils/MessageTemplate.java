@@ -0,0 +1,224 @@
+package com.pritam.bingocraft.api.utils;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Message format that is parsed once and rendered by filling placeholder slots.
+ *
+ * <p>Templates are strings in MiniMessage or legacy format containing placeholders written as
+ * <code>{name}</code>. Compiling a template replaces every placeholder with a sentinel, parses the
+ * result once and records where the sentinels ended up. Rendering then only rebuilds the text
+ * components that contain a slot and their ancestors; every other subtree is the component parsed
+ * at compile time and is reused as-is.</p>
+ *
+ * <p>Placeholder values are inserted as plain text and are not parsed, so they can't inject
+ * formatting. Placeholders are only supported in text content, not in hover or click events.
+ * A placeholder without a value is rendered as written in the template.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * MessageTemplate template = MessageTemplate.miniMessage("<green>Welcome, <bold>{player_name}</bold>!");
+ *
+ * Component component = template.render(Map.of("player_name", "Steve"));
+ * Message message = template.toMessage();
+ * }</pre>
+ *
+ * @author Pritam
+ * @since 1.0.0
+ */
+public final class MessageTemplate {
+    /**
+     * Placeholder syntax in templates.
+     */
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([A-Za-z0-9_.-]+)}");
+
+    /**
+     * Private-use characters delimiting the slot index that replaces a placeholder while parsing.
+     */
+    private static final char SENTINEL_START = '\uE000';
+    private static final char SENTINEL_END = '\uE001';
+
+    /**
+     * Placeholder name of each slot, by slot index.
+     */
+    private final String[] slots;
+
+    /**
+     * The compiled component tree.
+     */
+    private final Node root;
+
+    private MessageTemplate(String[] slots, Node root) {
+        this.slots = slots;
+        this.root = root;
+    }
+
+    /**
+     * Compiles a template in MiniMessage format.
+     *
+     * @param template the template, e.g. <code>&lt;gray&gt;Score: {score}</code>
+     * @return the compiled template
+     * @throws IllegalArgumentException if a placeholder is not part of text content
+     */
+    public static MessageTemplate miniMessage(String template) {
+        return compile(template, MiniMessage.miniMessage()::deserialize);
+    }
+
+    /**
+     * Compiles a template in legacy format using <code>&amp;</code> color codes.
+     *
+     * @param template the template, e.g. <code>&amp;7Score: {score}</code>
+     * @return the compiled template
+     */
+    public static MessageTemplate legacy(String template) {
+        return compile(template, LegacyComponentSerializer.legacyAmpersand()::deserialize);
+    }
+
+    /**
+     * Compiles a template with the given parser.
+     *
+     * @param template the template containing <code>{name}</code> placeholders
+     * @param parser parses the template into a component; called exactly once
+     * @return the compiled template
+     * @throws IllegalArgumentException if a placeholder is not part of text content
+     */
+    public static MessageTemplate compile(String template, Function<String, ? extends Component> parser) {
+        List<String> slots = new ArrayList<>();
+        StringBuilder marked = new StringBuilder();
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        while (matcher.find()) {
+            matcher.appendReplacement(marked, "");
+            marked.append(SENTINEL_START).append(slots.size()).append(SENTINEL_END);
+            slots.add(matcher.group(1));
+        }
+        matcher.appendTail(marked);
+
+        boolean[] found = new boolean[slots.size()];
+        Node root = compile(parser.apply(marked.toString()), found);
+        for (int i = 0; i < found.length; i++) {
+            if (!found[i]) {
+                throw new IllegalArgumentException("Placeholder {" + slots.get(i) + "} is not part of the text in " + template);
+            }
+        }
+        return new MessageTemplate(slots.toArray(String[]::new), root);
+    }
+
+    private static Node compile(Component component, boolean[] found) {
+        Object[] segments = null;
+        if (component instanceof TextComponent text && text.content().indexOf(SENTINEL_START) >= 0) {
+            segments = split(text.content(), found);
+        }
+
+        List<Component> children = component.children();
+        Node[] nodes = null;
+        for (int i = 0; i < children.size(); i++) {
+            Node child = compile(children.get(i), found);
+            if (!child.isStatic() && nodes == null) {
+                nodes = new Node[children.size()];
+                for (int j = 0; j < i; j++) {
+                    nodes[j] = new Node(children.get(j), null, null);
+                }
+            }
+            if (nodes != null) nodes[i] = child;
+        }
+        return new Node(component, segments, nodes);
+    }
+
+    /**
+     * Splits text content into literal strings and slot indices.
+     */
+    private static Object[] split(String content, boolean[] found) {
+        List<Object> segments = new ArrayList<>();
+        int position = 0;
+        int start;
+        while ((start = content.indexOf(SENTINEL_START, position)) >= 0) {
+            int end = content.indexOf(SENTINEL_END, start);
+            if (start > position) segments.add(content.substring(position, start));
+
+            int slot = Integer.parseInt(content, start + 1, end, 10);
+            segments.add(slot);
+            found[slot] = true;
+            position = end + 1;
+        }
+        if (position < content.length()) segments.add(content.substring(position));
+        return segments.toArray();
+    }
+
+    /**
+     * Renders the template with the given placeholder values.
+     *
+     * @param placeholders the placeholder values to fill the slots with
+     * @return the rendered component; the template's static parts are shared between renders
+     */
+    public Component render(Map<String, String> placeholders) {
+        return render(root, placeholders);
+    }
+
+    private Component render(Node node, Map<String, String> placeholders) {
+        if (node.isStatic()) return node.component;
+
+        Component component = node.component;
+        if (node.segments != null) {
+            StringBuilder content = new StringBuilder();
+            for (Object segment : node.segments) {
+                if (segment instanceof Integer slot) {
+                    String value = placeholders.get(slots[slot]);
+                    content.append(value != null ? value : "{" + slots[slot] + "}");
+                } else {
+                    content.append((String) segment);
+                }
+            }
+            component = ((TextComponent) component).content(content.toString());
+        }
+
+        if (node.children != null) {
+            List<Component> children = new ArrayList<>(node.children.length);
+            for (Node child : node.children) {
+                children.add(render(child, placeholders));
+            }
+            component = component.children(children);
+        }
+        return component;
+    }
+
+    /**
+     * Returns the names of the placeholders used in the template.
+     *
+     * <p>Useful as the dependencies of a sidebar line rendering this template.</p>
+     *
+     * @return the placeholder names
+     */
+    public Set<String> getPlaceholders() {
+        return Set.copyOf(Arrays.asList(slots));
+    }
+
+    /**
+     * Returns a message rendering this template.
+     *
+     * @return a message whose components are rendered with {@link #render(Map)}
+     */
+    public Message toMessage() {
+        return new Message(this::render);
+    }
+
+    /**
+     * A compiled component. Nodes without segments and without dynamic children are static.
+     *
+     * @param component the parsed component
+     * @param segments literal strings and slot indices making up the text content, or null
+     * @param children compiled children, or null if none of them contains a slot
+     */
+    private record Node(Component component, Object[] segments, Node[] children) {
+        private boolean isStatic() {
+            return segments == null && children == null;
+        }
+    }
+}
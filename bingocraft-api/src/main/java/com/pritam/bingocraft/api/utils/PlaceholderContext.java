@@ -0,0 +1,266 @@
+package com.pritam.bingocraft.api.utils;
+
+import java.util.*;
+
+/**
+ * Mutable, layered placeholder map used to render {@link Message}s.
+ *
+ * <p>A context resolves a placeholder by looking at four layers in order:</p>
+ * <ol>
+ *   <li>Values put into the context itself</li>
+ *   <li>The parent map, which is never modified</li>
+ *   <li>The provided map, usually a view of a
+ *       {@link com.pritam.bingocraft.api.placeholder.PlaceholderRegistry}, which is never modified</li>
+ *   <li>The default placeholders of the message currently being rendered</li>
+ * </ol>
+ *
+ * <p>Because lookups fall through the layers, nothing is copied to combine shared, per-player
+ * and default placeholders. Writes and removals only affect the context's own layer. Null values
+ * are not supported; a key mapped to null is treated as absent.</p>
+ *
+ * <p>Contexts are meant to be reused. A {@link Pool} hands out contexts for the duration of a
+ * render pass and takes them all back at its end, so steady-state rendering does not allocate.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Map<String, String> shared = Map.of("game", "Bingo");
+ * PlaceholderContext player = new PlaceholderContext(shared);
+ * player.put("player_name", "Steve");
+ *
+ * Component component = message.getComponent(player);
+ * }</pre>
+ *
+ * @author Pritam
+ * @since 1.0.0
+ */
+public class PlaceholderContext extends AbstractMap<String, String> {
+    /**
+     * Values put into this context.
+     */
+    private final Map<String, String> values = new HashMap<>();
+
+    /**
+     * Read-only layer consulted after {@link #values}, or null.
+     */
+    private Map<String, String> parent;
+
+    /**
+     * Read-only layer consulted after {@link #parent}, or null.
+     */
+    private Map<String, String> provided;
+
+    /**
+     * Defaults of the message being rendered, consulted last, or null.
+     */
+    private Map<String, String> defaults;
+
+    /**
+     * Creates an empty context without a parent.
+     */
+    public PlaceholderContext() {}
+
+    /**
+     * Creates an empty context on top of the given parent.
+     *
+     * @param parent placeholders to fall back to, or null
+     */
+    public PlaceholderContext(Map<String, String> parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Creates an empty context on top of the given parent and provided placeholders.
+     *
+     * @param parent placeholders to fall back to, or null
+     * @param provided placeholders to fall back to after the parent, or null
+     */
+    public PlaceholderContext(Map<String, String> parent, Map<String, String> provided) {
+        this.parent = parent;
+        this.provided = provided;
+    }
+
+    /**
+     * Clears this context's own values and replaces its parent.
+     *
+     * @param parent placeholders to fall back to, or null
+     * @return this context
+     */
+    public PlaceholderContext reset(Map<String, String> parent) {
+        return reset(parent, null);
+    }
+
+    /**
+     * Clears this context's own values and replaces its parent and provided placeholders.
+     *
+     * @param parent placeholders to fall back to, or null
+     * @param provided placeholders to fall back to after the parent, or null
+     * @return this context
+     */
+    public PlaceholderContext reset(Map<String, String> parent, Map<String, String> provided) {
+        values.clear();
+        this.parent = parent;
+        this.provided = provided;
+        this.defaults = null;
+        return this;
+    }
+
+    /**
+     * Replaces the provided placeholders, keeping this context's own values.
+     *
+     * @param provided placeholders to fall back to after the parent, or null
+     */
+    public void setProvided(Map<String, String> provided) {
+        this.provided = provided;
+    }
+
+    /**
+     * Copies this context's own values into a new context on top of a different parent, resolving
+     * provided placeholders now instead of when they are looked up.
+     *
+     * <p>Used to snapshot placeholders on the main thread that are rendered on another thread:
+     * the copy has no provided layer, so rendering it never calls a provider. The provided values
+     * of the given keys are put into the copy's own layer unless this context or the parent already
+     * resolves them, which keeps their precedence as long as the parent is not modified.</p>
+     *
+     * @param parent placeholders the copy falls back to, or null
+     * @param providedKeys provided placeholders to resolve, or null to resolve all of them
+     * @return a new, independent context
+     */
+    public PlaceholderContext copy(Map<String, String> parent, Collection<String> providedKeys) {
+        PlaceholderContext copy = new PlaceholderContext(parent);
+        copy.values.putAll(values);
+        if (provided == null) return copy;
+
+        if (providedKeys == null) {
+            for (Entry<String, String> entry : provided.entrySet()) {
+                copy.putMissing(entry.getKey(), entry.getValue());
+            }
+        } else {
+            for (String key : providedKeys) {
+                copy.putMissing(key, provided.get(key));
+            }
+        }
+        return copy;
+    }
+
+    private void putMissing(String key, String value) {
+        if (value != null && get(key) == null) {
+            values.put(key, value);
+        }
+    }
+
+    /**
+     * Replaces the default layer. Used by {@link Message} while it renders.
+     *
+     * @param defaults the new defaults, or null
+     * @return the previous defaults, to be restored afterwards
+     */
+    Map<String, String> swapDefaults(Map<String, String> defaults) {
+        Map<String, String> previous = this.defaults;
+        this.defaults = defaults;
+        return previous;
+    }
+
+    @Override
+    public String get(Object key) {
+        String value = values.get(key);
+        if (value == null && parent != null) value = parent.get(key);
+        if (value == null && provided != null) value = provided.get(key);
+        if (value == null && defaults != null) value = defaults.get(key);
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Puts a value into this context's own layer.
+     *
+     * @return the previous value of the own layer, ignoring the other layers
+     */
+    @Override
+    public String put(String key, String value) {
+        return values.put(key, Objects.requireNonNull(value, "value"));
+    }
+
+    /**
+     * Removes a value from this context's own layer. The other layers are not modified.
+     *
+     * @return the previous value of the own layer
+     */
+    @Override
+    public String remove(Object key) {
+        return values.remove(key);
+    }
+
+    /**
+     * Clears this context's own layer. The other layers are kept.
+     */
+    @Override
+    public void clear() {
+        values.clear();
+    }
+
+    /**
+     * Returns a snapshot of all resolvable placeholders.
+     *
+     * <p>This merges every layer and therefore allocates; lookups should use {@link #get(Object)}.</p>
+     */
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        Map<String, String> merged = new HashMap<>();
+        if (defaults != null) merged.putAll(defaults);
+        if (provided != null) merged.putAll(provided);
+        if (parent != null) merged.putAll(parent);
+        merged.putAll(values);
+        return Collections.unmodifiableMap(merged).entrySet();
+    }
+
+    /**
+     * Reusable set of contexts for one render pass.
+     *
+     * <p>{@link #acquire(Map)} hands out a cleared context, growing the pool only when more
+     * contexts are in use than ever before. {@link #releaseAll()} returns every context at the
+     * end of the pass. Pools are not thread-safe and are meant to be owned by a single renderer.</p>
+     */
+    public static final class Pool {
+        private final List<PlaceholderContext> contexts = new ArrayList<>();
+        private int used;
+
+        /**
+         * Hands out a cleared context on top of the given parent.
+         *
+         * @param parent placeholders to fall back to, or null
+         * @return a context that stays valid until {@link #releaseAll()}
+         */
+        public PlaceholderContext acquire(Map<String, String> parent) {
+            return acquire(parent, null);
+        }
+
+        /**
+         * Hands out a cleared context on top of the given parent and provided placeholders.
+         *
+         * @param parent placeholders to fall back to, or null
+         * @param provided placeholders to fall back to after the parent, or null
+         * @return a context that stays valid until {@link #releaseAll()}
+         */
+        public PlaceholderContext acquire(Map<String, String> parent, Map<String, String> provided) {
+            if (used == contexts.size()) {
+                contexts.add(new PlaceholderContext());
+            }
+            return contexts.get(used++).reset(parent, provided);
+        }
+
+        /**
+         * Returns all acquired contexts to the pool, dropping their references to other layers.
+         */
+        public void releaseAll() {
+            for (int i = 0; i < used; i++) {
+                contexts.get(i).reset(null);
+            }
+            used = 0;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.pritam.bingocraft.api.sidebar;
+
+import com.pritam.bingocraft.api.sidebar.backend.RecordingSidebarBackend;
+import com.pritam.bingocraft.api.sidebar.backend.RecordingSidebarBackend.OperationType;
+import com.pritam.bingocraft.api.sidebar.backend.RecordingSidebarBackend.RecordingCanvas;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Only content that differs from what the canvas shows is sent, at the fewest operations.
+ */
+class SidebarDiffEngineTest {
+    private static final Component TITLE = Component.text("Bingo");
+
+    private final RecordingSidebarBackend backend = new RecordingSidebarBackend();
+    private RecordingCanvas canvas;
+    private SidebarDiffEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        canvas = (RecordingCanvas) backend.createCanvas("diff", TITLE);
+        engine = new SidebarDiffEngine(canvas, TITLE);
+        backend.reset();
+    }
+
+    @Test
+    void unchangedContentSendsNothing() {
+        engine.setLiteral(0, "Score: 0");
+        engine.setDynamic(1, "line1", Component.text("Time: "), Component.text("10"));
+        engine.takeOperationCount();
+        backend.reset();
+
+        engine.setTitle(TITLE);
+        engine.setLiteral(0, "Score: 0");
+        engine.setDynamic(1, "line1", Component.text("Time: "), Component.text("10"));
+
+        assertEquals(0, engine.takeOperationCount());
+        assertEquals(0, backend.getTotalCount());
+    }
+
+    @Test
+    void changedTitleSendsOneOperation() {
+        engine.setTitle(Component.text("Bingo!"));
+
+        assertEquals(1, backend.getCount(OperationType.TITLE));
+        assertEquals(1, engine.takeOperationCount());
+        assertEquals(Component.text("Bingo!"), canvas.getTitle());
+    }
+
+    @Test
+    void changedLiteralReplacesItsEntry() {
+        engine.setLiteral(0, "Score: 0");
+        engine.takeOperationCount();
+        backend.reset();
+
+        engine.setLiteral(0, "Score: 1");
+
+        assertEquals(1, backend.getCount(OperationType.RESET_SCORE));
+        assertEquals(1, backend.getCount(OperationType.SET_SCORE));
+        assertEquals(2, engine.takeOperationCount());
+        assertEquals(Map.of("Score: 1", SidebarDiffEngine.MAX_LINES), canvas.getScores());
+    }
+
+    @Test
+    void newDynamicLineRegistersItsTeamOnce() {
+        engine.setDynamic(2, "line2", Component.text("Time: "), Component.text("10"));
+
+        assertEquals(1, backend.getCount(OperationType.REGISTER_TEAM));
+        assertEquals(1, backend.getCount(OperationType.TEAM_PREFIX));
+        assertEquals(1, backend.getCount(OperationType.TEAM_SUFFIX));
+        assertEquals(1, backend.getCount(OperationType.SET_SCORE));
+        assertEquals(4, engine.takeOperationCount());
+        assertEquals(1, canvas.getTeams().size());
+    }
+
+    @Test
+    void changedSuffixOnlyUpdatesTheSuffix() {
+        engine.setDynamic(2, "line2", Component.text("Time: "), Component.text("10"));
+        engine.takeOperationCount();
+        backend.reset();
+
+        engine.setDynamic(2, "line2", Component.text("Time: "), Component.text("9"));
+
+        assertEquals(1, backend.getCount(OperationType.TEAM_SUFFIX));
+        assertEquals(1, backend.getTotalCount());
+        assertEquals(1, engine.takeOperationCount());
+    }
+
+    @Test
+    void hiddenDynamicLineKeepsItsTeam() {
+        engine.setDynamic(2, "line2", Component.text("Time: "), Component.text("10"));
+        backend.reset();
+
+        engine.setDynamic(2, "line2", Component.empty(), Component.empty());
+        assertEquals(1, backend.getCount(OperationType.RESET_SCORE));
+        assertEquals(1, backend.getTotalCount());
+        assertEquals(0, canvas.getScores().size());
+
+        backend.reset();
+        engine.setDynamic(2, "line2", Component.text("Time: "), Component.text("10"));
+        assertEquals(1, backend.getCount(OperationType.SET_SCORE));
+        assertEquals(1, backend.getTotalCount());
+        assertEquals(1, canvas.getScores().size());
+    }
+
+    @Test
+    void literalReplacingDynamicLineUnregistersItsTeam() {
+        engine.setDynamic(3, "line3", Component.text("Time: "), Component.text("10"));
+        backend.reset();
+
+        engine.setLiteral(3, "Game over");
+
+        assertEquals(1, backend.getCount(OperationType.RESET_SCORE));
+        assertEquals(1, backend.getCount(OperationType.UNREGISTER_TEAM));
+        assertEquals(1, backend.getCount(OperationType.SET_SCORE));
+        assertEquals(3, backend.getTotalCount());
+        assertEquals(0, canvas.getTeams().size());
+        assertEquals(Map.of("Game over", SidebarDiffEngine.MAX_LINES - 3), canvas.getScores());
+    }
+
+    @Test
+    void clearedSlotResetsItsEntry() {
+        engine.setLiteral(0, "Score: 0");
+        backend.reset();
+
+        engine.clear(0);
+        engine.clear(0);
+
+        assertEquals(1, backend.getCount(OperationType.RESET_SCORE));
+        assertEquals(1, backend.getTotalCount());
+        assertEquals(0, canvas.getScores().size());
+    }
+}
@@ -0,0 +1,101 @@
+package com.pritam.bingocraft.api.sidebar;
+
+import com.pritam.bingocraft.api.sidebar.backend.RecordingSidebarBackend.OperationType;
+import com.pritam.bingocraft.api.utils.Message;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Lines are only re-rendered when a placeholder they depend on changes or they are invalidated,
+ * and only changed content is sent.
+ */
+class SidebarViewDirtyLinesTest extends SidebarTestBase {
+    private static final int PLAYERS = 3;
+
+    private SidebarView view;
+
+    @BeforeEach
+    void setUp() {
+        view = new SidebarView("dirty") {};
+        view.setBackend(backend);
+        view.setPlaceholder("score", "0");
+        view.setLine(0, new SidebarView.LiteralLine(
+                new Message(ph -> Component.text("Score: " + ph.get("score"))), Set.of("score")));
+        view.setLine(1, new SidebarView.LiteralLine(new Message(ph -> Component.text("Static")), Set.of()));
+
+        joinAll(view, PLAYERS);
+        view.tick();
+        backend.reset();
+        view.getStats().reset();
+    }
+
+    @Test
+    void quietTickRendersAndSendsNothing() {
+        view.tick();
+
+        assertEquals(0, view.getStats().getLinesRendered());
+        assertEquals(0, backend.getTotalCount());
+    }
+
+    @Test
+    void placeholderChangeOnlyRendersDependentLines() {
+        view.setPlaceholder("score", "1");
+        view.tick();
+
+        assertEquals(PLAYERS, view.getStats().getLinesRendered());
+        assertEquals(PLAYERS, backend.getCount(OperationType.RESET_SCORE));
+        assertEquals(PLAYERS, backend.getCount(OperationType.SET_SCORE));
+        assertEquals(2 * PLAYERS, backend.getTotalCount());
+    }
+
+    @Test
+    void unchangedPlaceholderValueMarksNothing() {
+        view.setPlaceholder("score", "0");
+        view.tick();
+
+        assertEquals(0, view.getStats().getLinesRendered());
+        assertEquals(0, backend.getTotalCount());
+    }
+
+    @Test
+    void playerPlaceholderOnlyRendersForThatPlayer() {
+        view.setPlaceholder(playerIds.getFirst(), "score", "5");
+        view.tick();
+
+        assertEquals(1, view.getStats().getLinesRendered());
+        assertEquals(2, backend.getTotalCount());
+    }
+
+    @Test
+    void invalidatedLineWithUnchangedContentSendsNothing() {
+        view.invalidate(1);
+        view.tick();
+
+        assertEquals(PLAYERS, view.getStats().getLinesRendered());
+        assertEquals(0, backend.getTotalCount());
+    }
+
+    @Test
+    void lineWithoutDeclaredDependenciesIsRenderedEveryTick() {
+        AtomicInteger renders = new AtomicInteger();
+        view.setLine(2, new SidebarView.LiteralLine(new Message(ph -> {
+            renders.incrementAndGet();
+            return Component.text("Volatile");
+        })));
+
+        view.tick();
+        assertEquals(PLAYERS, renders.get());
+        assertEquals(PLAYERS, backend.getCount(OperationType.SET_SCORE));
+
+        backend.reset();
+        view.tick();
+        assertEquals(2 * PLAYERS, renders.get());
+        assertEquals(0, backend.getTotalCount());
+    }
+}
@@ -0,0 +1,83 @@
+package com.pritam.bingocraft.api.sidebar;
+
+import com.pritam.bingocraft.api.sidebar.backend.RecordingSidebarBackend.OperationType;
+import com.pritam.bingocraft.api.utils.Message;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Grouped players with equal content share a canvas and migrate between groups as their content
+ * diverges and converges.
+ */
+class SidebarViewGroupingTest extends SidebarTestBase {
+    private static final int PLAYERS = 4;
+
+    private SidebarView view;
+
+    @BeforeEach
+    void setUp() {
+        view = new SidebarView("grouped") {};
+        view.setBackend(backend);
+        view.setGrouping(true);
+        view.setPlaceholder("timer", "0");
+        view.setPlaceholder("team", "Blue");
+        view.setLine(0, new SidebarView.LiteralLine(
+                new Message(ph -> Component.text("Timer: " + ph.get("timer"))), Set.of("timer"), true));
+        view.setLine(1, new SidebarView.LiteralLine(
+                new Message(ph -> Component.text("Team: " + ph.get("team"))), Set.of("team")));
+
+        joinAll(view, PLAYERS);
+        view.tick();
+    }
+
+    @Test
+    void playersWithEqualContentShareOneCanvas() {
+        assertEquals(1, view.getGroupCount());
+        assertEquals(1, backend.getCount(OperationType.CREATE));
+        assertEquals(PLAYERS, backend.getCount(OperationType.SHOW));
+        assertEquals(PLAYERS, backend.getCanvases().getFirst().getViewers().size());
+    }
+
+    @Test
+    void divergingPlayerMovesToNewGroup() {
+        backend.reset();
+        view.setPlaceholder(playerIds.getFirst(), "team", "Red");
+        view.tick();
+
+        assertEquals(2, view.getGroupCount());
+        assertEquals(1, backend.getCount(OperationType.CREATE));
+        assertEquals(1, backend.getCount(OperationType.SHOW));
+        assertEquals(Set.of(playerIds.getFirst()), backend.getCanvases().getLast().getViewers());
+    }
+
+    @Test
+    void convergingPlayerRejoinsExistingGroup() {
+        view.setPlaceholder(playerIds.getFirst(), "team", "Red");
+        view.tick();
+
+        backend.reset();
+        view.setPlaceholder(playerIds.getFirst(), "team", "Blue");
+        view.tick();
+
+        assertEquals(1, view.getGroupCount());
+        assertEquals(0, backend.getCount(OperationType.CREATE));
+        assertEquals(1, backend.getCount(OperationType.SHOW));
+    }
+
+    @Test
+    void sharedChangeUpdatesGroupCanvasOnce() {
+        backend.reset();
+        view.setPlaceholder("timer", "1");
+        view.tick();
+
+        assertEquals(1, view.getGroupCount());
+        assertEquals(1, backend.getCount(OperationType.RESET_SCORE));
+        assertEquals(1, backend.getCount(OperationType.SET_SCORE));
+        assertEquals(2, backend.getTotalCount());
+    }
+}
@@ -0,0 +1,135 @@
+package com.pritam.bingocraft.api.sidebar;
+
+import com.pritam.bingocraft.api.placeholder.PlaceholderRegistry;
+import com.pritam.bingocraft.api.sidebar.backend.RecordingSidebarBackend.RecordingCanvas;
+import com.pritam.bingocraft.api.utils.Message;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pipelined passes render with the same placeholder precedence as the main thread.
+ */
+class SidebarViewPipelinedTest extends SidebarTestBase {
+    private final TestRegistry registry = new TestRegistry();
+    private SidebarView view;
+    private UUID red;
+    private UUID blue;
+
+    @BeforeEach
+    void setUp() {
+        view = new SidebarView("pipelined") {};
+        view.setBackend(backend);
+
+        red = join(view, UUID.randomUUID());
+        blue = join(view, UUID.randomUUID());
+        registry.globals.put("team", "Blue");
+        registry.players.put(red, new HashMap<>(Map.of("team", "Red")));
+    }
+
+    @Test
+    void playerProviderWinsOverGlobalProvider() {
+        view.setLine(0, new SidebarView.LiteralLine(
+                new Message(ph -> Component.text("Team: " + ph.get("team"))), Set.of("team")));
+
+        assertTeams();
+    }
+
+    @Test
+    void playerProviderWinsForLinesWithoutDeclaredDependencies() {
+        view.setLine(0, new SidebarView.LiteralLine(
+                new Message(ph -> Component.text("Team: " + ph.get("team")))));
+
+        assertTeams();
+    }
+
+    private void assertTeams() {
+        view.setPlaceholderRegistry(registry);
+        view.tick();
+        Map<String, Integer> mainThread = scoresOf(red);
+        assertEquals(Set.of("Team: Red"), mainThread.keySet());
+
+        view.setRenderExecutor(Runnable::run);
+        view.tick();
+        view.apply();
+
+        assertEquals(mainThread, scoresOf(red));
+        assertEquals(Set.of("Team: Blue"), scoresOf(blue).keySet());
+    }
+
+    private Map<String, Integer> scoresOf(UUID playerId) {
+        return backend.getCanvases().reversed().stream()
+                .filter(canvas -> canvas.getViewers().contains(playerId))
+                .findFirst()
+                .map(RecordingCanvas::getScores)
+                .orElse(Map.of());
+    }
+
+    /**
+     * Registry with fixed values, resolving per-player values before global ones.
+     */
+    private static final class TestRegistry implements PlaceholderRegistry {
+        private final Map<String, String> globals = new HashMap<>();
+        private final Map<UUID, Map<String, String>> players = new HashMap<>();
+
+        @Override
+        public void registerGlobal(String key, Supplier<String> provider) {
+            globals.put(key, provider.get());
+        }
+
+        @Override
+        public void registerPlayer(String key, Function<Player, String> provider) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void unregister(String key) {
+            globals.remove(key);
+            players.values().forEach(values -> values.remove(key));
+        }
+
+        @Override
+        public String resolve(String key) {
+            return globals.get(key);
+        }
+
+        @Override
+        public String resolve(UUID playerId, String key) {
+            String value = players.getOrDefault(playerId, Map.of()).get(key);
+            return value != null ? value : globals.get(key);
+        }
+
+        @Override
+        public Map<String, String> global() {
+            return globals;
+        }
+
+        @Override
+        public Map<String, String> forPlayer(UUID playerId) {
+            return new AbstractMap<>() {
+                @Override
+                public String get(Object key) {
+                    return key instanceof String name ? resolve(playerId, name) : null;
+                }
+
+                @Override
+                public Set<Entry<String, String>> entrySet() {
+                    Map<String, String> values = new HashMap<>(globals);
+                    values.putAll(players.getOrDefault(playerId, Map.of()));
+                    return values.entrySet();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.pritam.bingocraft.api.sidebar;
+
+import com.pritam.bingocraft.api.sidebar.backend.RecordingSidebarBackend;
+import com.pritam.bingocraft.api.sidebar.backend.RecordingSidebarBackend.OperationType;
+import com.pritam.bingocraft.api.utils.Message;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Shared lines are rendered once per view and their result is sent to every viewer.
+ */
+class SidebarViewSharedLinesTest extends SidebarTestBase {
+    private static final int PLAYERS = 10;
+
+    private final AtomicInteger sharedRenders = new AtomicInteger();
+    private final AtomicInteger playerRenders = new AtomicInteger();
+    private SidebarView view;
+
+    @BeforeEach
+    void setUp() {
+        view = new SidebarView("shared") {};
+        view.setBackend(backend);
+        view.setPlaceholder("timer", "0");
+        view.setLine(0, new SidebarView.LiteralLine(new Message(ph -> {
+            sharedRenders.incrementAndGet();
+            return Component.text("Timer: " + ph.get("timer"));
+        }), Set.of("timer"), true));
+        view.setLine(1, new SidebarView.LiteralLine(new Message(ph -> {
+            playerRenders.incrementAndGet();
+            return Component.text("Time left: " + ph.get("timer"));
+        }), Set.of("timer")));
+
+        joinAll(view, PLAYERS);
+        view.tick();
+        backend.reset();
+        sharedRenders.set(0);
+        playerRenders.set(0);
+    }
+
+    @Test
+    void sharedLineIsRenderedOncePerView() {
+        view.setPlaceholder("timer", "1");
+        view.tick();
+
+        assertEquals(1, sharedRenders.get());
+        assertEquals(PLAYERS, playerRenders.get());
+        assertEquals(2 * PLAYERS, backend.getCount(OperationType.SET_SCORE));
+        assertEquals(2 * PLAYERS, backend.getCount(OperationType.RESET_SCORE));
+        for (RecordingSidebarBackend.RecordingCanvas canvas : backend.getCanvases()) {
+            assertTrue(canvas.getScores().containsKey("Timer: 1"));
+        }
+    }
+
+    @Test
+    void sharedLineIgnoresPlayerPlaceholders() {
+        view.setPlaceholder(playerIds.getFirst(), "timer", "5");
+        view.tick();
+
+        assertEquals(0, sharedRenders.get());
+        assertEquals(1, playerRenders.get());
+        assertEquals(2, backend.getTotalCount());
+    }
+}
@@ -0,0 +1,53 @@
+package com.pritam.bingocraft.api.sidebar;
+
+import com.pritam.bingocraft.api.sidebar.backend.RecordingSidebarBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Base class for sidebar tests that render views for online players.
+ *
+ * <p>Installs the {@link TestServer}, records operations through {@link #backend}, and lets
+ * tests join players that are assigned to a view. Players joined through this class quit after
+ * each test.
+ */
+public abstract class SidebarTestBase {
+    protected final RecordingSidebarBackend backend = new RecordingSidebarBackend();
+    protected final List<UUID> playerIds = new ArrayList<>();
+
+    @BeforeAll
+    static void installServer() {
+        TestServer.install();
+    }
+
+    @AfterEach
+    void quitPlayers() {
+        playerIds.forEach(TestServer::quit);
+        playerIds.clear();
+    }
+
+    /**
+     * Joins a player and assigns them to the view.
+     *
+     * @return the player's UUID
+     */
+    protected UUID join(SidebarView view, UUID playerId) {
+        TestServer.join(playerId, "Player" + playerIds.size());
+        playerIds.add(playerId);
+        view.assignPlayer(playerId);
+        return playerId;
+    }
+
+    /**
+     * Joins the given number of players with random UUIDs and assigns them to the view.
+     */
+    protected void joinAll(SidebarView view, int count) {
+        for (int i = 0; i < count; i++) {
+            join(view, UUID.randomUUID());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+plugins {
+    id("java")
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+dependencies {
+    jmh(project(":bingocraft-plugin"))
+    jmh(project(":bingocraft-api"))
+    jmh(rootProject.ext["paperApi"].toString())
+    jmh("org.xerial:sqlite-jdbc:3.47.1.0")
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
+
+tasks.register<JavaExec>("soak") {
+    group = "verification"
+    description = "Runs the persistence soak scenario; tune it with -Psoak.<option>=<value>"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.pritam.bingocraft.benchmarks.soak.PersistenceSoak")
+    javaLauncher.set(javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(21)) })
+    systemProperties(project.properties.filterKeys { it.startsWith("soak.") })
+    jvmArgs("-Xmx2g")
+}
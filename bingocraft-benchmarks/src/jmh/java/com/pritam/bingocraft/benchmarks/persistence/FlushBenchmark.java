@@ -0,0 +1,70 @@
+package com.pritam.bingocraft.benchmarks.persistence;
+
+import com.pritam.bingocraft.plugin.persistence.SaveService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing one batch of queued objects to SQLite.
+ *
+ * <p>The primary score is batches per second; the {@link Written} counters additionally
+ * report objects and bytes per second, so batch sizes can be compared directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FlushBenchmark {
+    @Param({"1", "10", "100", "1000"})
+    public int batchSize;
+
+    @Param({"128", "4096", "65536"})
+    public int payloadBytes;
+
+    private TemporarySaveServiceContext context;
+    private SaveService service;
+    private String[] keys;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new TemporarySaveServiceContext();
+        service = SaveServices.create(context, batchSize, 0);
+
+        keys = new String[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            keys[i] = "player:" + i;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.shutdown();
+        context.close();
+    }
+
+    /**
+     * Fills the queue with a fresh batch; keys are reused so the table size stays constant.
+     */
+    @Setup(Level.Invocation)
+    public void enqueue() {
+        char fill = (char) ('a' + round++ % 26);
+        for (String key : keys) {
+            service.save(key, new Payload(payloadBytes, fill));
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Written {
+        public long objects;
+        public long bytes;
+    }
+
+    @Benchmark
+    public void flush(Written written) {
+        service.flushQueuedObjects();
+        written.objects += batchSize;
+        written.bytes += (long) batchSize * payloadBytes;
+    }
+}
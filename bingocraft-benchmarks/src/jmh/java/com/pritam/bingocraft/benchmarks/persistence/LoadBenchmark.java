@@ -0,0 +1,78 @@
+package com.pritam.bingocraft.benchmarks.persistence;
+
+import com.pritam.bingocraft.api.persistence.SaveServiceReturnCode;
+import com.pritam.bingocraft.plugin.persistence.SaveService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@link SaveService#load} for each level a read can be served from.
+ *
+ * <ul>
+ *   <li>{@code heap} - the object is in the Guava cache</li>
+ *   <li>{@code offheap} - the heap cache holds far fewer objects than are read round-robin, so every
+ *       read misses it and decodes from the off-heap level; the entry it pushes out is demoted</li>
+ *   <li>{@code sqlite} - both cache levels are disabled and every read queries the database</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.SampleTime, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoadBenchmark {
+    private static final int KEY_SPACE = 1_000;
+
+    /** Heap cache size for {@code offheap}; non-zero so promoted entries are kept, but far below {@link #KEY_SPACE}. */
+    private static final int SMALL_HEAP = 16;
+
+    @Param({"heap", "offheap", "sqlite"})
+    public String source;
+
+    @Param({"128", "4096", "65536"})
+    public int payloadBytes;
+
+    private TemporarySaveServiceContext context;
+    private SaveService service;
+    private String[] keys;
+    private long offHeapHits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new TemporarySaveServiceContext();
+        service = switch (source) {
+            case "heap" -> SaveServices.create(context, KEY_SPACE, 0);
+            case "offheap" -> SaveServices.create(context, SMALL_HEAP, 256);
+            case "sqlite" -> SaveServices.create(context, 0, 0);
+            default -> throw new IllegalArgumentException(source);
+        };
+
+        keys = new String[KEY_SPACE];
+        for (int i = 0; i < KEY_SPACE; i++) {
+            keys[i] = "player:" + i;
+            service.save(keys[i], new Payload(payloadBytes, 'x'));
+        }
+        service.flushQueuedObjects();
+        offHeapHits = service.getOffHeapHitCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (source.equals("offheap") && service.getOffHeapHitCount() == offHeapHits) {
+            throw new IllegalStateException("No read was served from the off-heap level");
+        }
+        service.shutdown();
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public SaveServiceReturnCode load(Cursor cursor) {
+        String key = keys[cursor.next];
+        cursor.next = (cursor.next + 1) % KEY_SPACE;
+        return service.load(key, new Payload()).join();
+    }
+}
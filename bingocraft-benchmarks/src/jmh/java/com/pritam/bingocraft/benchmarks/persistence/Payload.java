@@ -0,0 +1,32 @@
+package com.pritam.bingocraft.benchmarks.persistence;
+
+import com.pritam.bingocraft.api.persistence.SaveableObject;
+
+import java.util.Arrays;
+
+/**
+ * Opaque saveable object of a fixed serialized size.
+ */
+public class Payload implements SaveableObject {
+    private String data;
+
+    public Payload() {
+        this.data = "";
+    }
+
+    public Payload(int size, char fill) {
+        char[] chars = new char[size];
+        Arrays.fill(chars, fill);
+        this.data = new String(chars);
+    }
+
+    @Override
+    public String toString() {
+        return data;
+    }
+
+    @Override
+    public void fromString(String data) {
+        this.data = data;
+    }
+}
@@ -0,0 +1,76 @@
+package com.pritam.bingocraft.benchmarks.persistence;
+
+import com.pritam.bingocraft.api.persistence.SaveServiceReturnCode;
+import com.pritam.bingocraft.plugin.persistence.SaveService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link SaveService#save} while several threads enqueue at once.
+ *
+ * <p>Each key always maps to the same object instance, so the write-behind queue stays
+ * bounded by the key space instead of growing for the whole run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SaveEnqueueBenchmark {
+    private static final int KEY_SPACE = 10_000;
+
+    @Param({"256"})
+    public int payloadBytes;
+
+    private TemporarySaveServiceContext context;
+    private SaveService service;
+    private String[] keys;
+    private Payload[] payloads;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new TemporarySaveServiceContext();
+        service = SaveServices.create(context, KEY_SPACE, 0);
+
+        keys = new String[KEY_SPACE];
+        payloads = new Payload[KEY_SPACE];
+        for (int i = 0; i < KEY_SPACE; i++) {
+            keys[i] = "player:" + i;
+            payloads[i] = new Payload(payloadBytes, 'x');
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.shutdown();
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public SaveServiceReturnCode saveSingleThread(Cursor cursor) {
+        return save(cursor);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public SaveServiceReturnCode saveContended4(Cursor cursor) {
+        return save(cursor);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public SaveServiceReturnCode saveContended16(Cursor cursor) {
+        return save(cursor);
+    }
+
+    private SaveServiceReturnCode save(Cursor cursor) {
+        int index = cursor.next;
+        cursor.next = (index + 1) % KEY_SPACE;
+        return service.save(keys[index], payloads[index]);
+    }
+}
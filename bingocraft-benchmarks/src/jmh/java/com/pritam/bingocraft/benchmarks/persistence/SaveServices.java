@@ -0,0 +1,25 @@
+package com.pritam.bingocraft.benchmarks.persistence;
+
+import com.pritam.bingocraft.plugin.persistence.SaveService;
+import com.pritam.bingocraft.plugin.persistence.SaveServiceMeta;
+
+/**
+ * Creates {@link SaveService} instances for benchmarks.
+ */
+final class SaveServices {
+    /** Long enough that the save task never fires during a run; benchmarks flush explicitly. */
+    private static final int SAVE_INTERVAL = 3600;
+
+    private SaveServices() {}
+
+    static SaveService create(TemporarySaveServiceContext context, int cacheSize, int offHeapCacheSize) {
+        SaveServiceMeta meta = new SaveServiceMeta(true, SAVE_INTERVAL, SAVE_INTERVAL, cacheSize, offHeapCacheSize,
+                false, 20, 600);
+        SaveService service = new SaveService(meta, context);
+
+        if (!service.isEnabled()) {
+            throw new IllegalStateException("SaveService failed to open " + context.getDataFolder());
+        }
+        return service;
+    }
+}
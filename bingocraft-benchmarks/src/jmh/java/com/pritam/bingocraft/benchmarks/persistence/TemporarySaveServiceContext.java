@@ -0,0 +1,57 @@
+package com.pritam.bingocraft.benchmarks.persistence;
+
+import com.pritam.bingocraft.plugin.persistence.SaveServiceContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Stub plugin context for running the {@code SaveService} without a server.
+ *
+ * <p>The database lives in a fresh temporary directory that {@link #close()} removes again.
+ * Repeating tasks are not scheduled, benchmarks flush explicitly so that background work
+ * does not leak into their measurements.
+ */
+public class TemporarySaveServiceContext implements SaveServiceContext, AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger("bingocraft-benchmarks");
+
+    private final Path folder;
+
+    public TemporarySaveServiceContext() {
+        try {
+            this.folder = Files.createTempDirectory("bingocraft-bench");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public File getDataFolder() {
+        return folder.toFile();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return LOGGER;
+    }
+
+    @Override
+    public void runTaskTimerAsynchronously(String name, Runnable task, long delayTicks, long periodTicks) {
+        // Intentionally not scheduled, see class documentation.
+    }
+
+    @Override
+    public void close() {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
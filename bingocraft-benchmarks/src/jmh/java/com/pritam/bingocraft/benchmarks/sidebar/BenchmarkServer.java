@@ -0,0 +1,77 @@
+package com.pritam.bingocraft.benchmarks.sidebar;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Minimal {@link Server} for benchmarks that only knows a set of online players.
+ *
+ * <p>Sidebar views look players up through {@link Bukkit#getPlayer(UUID)}, so the server is
+ * installed as the Bukkit singleton once per JVM. Players are proxies that answer their UUID,
+ * name and online state; every other method returns a default value.
+ */
+final class BenchmarkServer {
+    private static final Logger LOGGER = Logger.getLogger("BenchmarkServer");
+    private static final Map<UUID, Player> PLAYERS = new ConcurrentHashMap<>();
+
+    private BenchmarkServer() {}
+
+    /**
+     * Installs the server unless it already is.
+     */
+    static synchronized void install() {
+        if (Bukkit.getServer() != null) return;
+
+        Server server = (Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[]{Server.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getPlayer" -> args[0] instanceof UUID id ? PLAYERS.get(id) : null;
+                    case "getOnlinePlayers" -> PLAYERS.values();
+                    case "getLogger" -> LOGGER;
+                    case "isPrimaryThread" -> true;
+                    default -> defaultValue(method.getReturnType());
+                });
+        Bukkit.setServer(server);
+    }
+
+    /**
+     * Adds an online player.
+     */
+    static Player join(UUID playerId, String name) {
+        Player player = (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[]{Player.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getUniqueId" -> playerId;
+                    case "getName" -> name;
+                    case "isOnline" -> PLAYERS.get(playerId) == proxy;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> playerId.hashCode();
+                    case "toString" -> name;
+                    default -> defaultValue(method.getReturnType());
+                });
+        PLAYERS.put(playerId, player);
+        return player;
+    }
+
+    /**
+     * Removes an online player.
+     */
+    static void quit(UUID playerId) {
+        PLAYERS.remove(playerId);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0.0;
+        if (type == float.class) return 0f;
+        if (type == String.class) return "Benchmark";
+        return null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.pritam.bingocraft.benchmarks.sidebar;
+
+import com.pritam.bingocraft.api.sidebar.SidebarDiffEngine;
+import com.pritam.bingocraft.api.sidebar.SidebarView;
+import com.pritam.bingocraft.api.utils.Message;
+import net.kyori.adventure.text.Component;
+
+import java.util.Set;
+
+/**
+ * Sidebar with a per-player name line and fourteen lines depending on a {@code tick} placeholder.
+ */
+final class BenchmarkSidebar extends SidebarView {
+    BenchmarkSidebar(boolean dynamic) {
+        super("benchmark");
+        setTitle(new Message(ph -> Component.text("Benchmark")), Set.of());
+        setLine(0, new LiteralLine(new Message(ph -> Component.text("Player: " + ph.get("player_name"))),
+                Set.of("player_name")));
+
+        for (int i = 1; i < SidebarDiffEngine.MAX_LINES; i++) {
+            String label = "Line " + i + ": ";
+            if (dynamic) {
+                setLine(i, new DynamicLine("benchmark_" + i, new Message(ph -> Component.text(label)),
+                        new Message(ph -> Component.text(String.valueOf(ph.get("tick")))), Set.of("tick")));
+            } else {
+                setLine(i, new LiteralLine(new Message(ph -> Component.text(label + ph.get("tick"))), Set.of("tick")));
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.pritam.bingocraft.benchmarks.sidebar;
+
+import com.pritam.bingocraft.api.sidebar.backend.RecordingSidebarBackend;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link com.pritam.bingocraft.api.sidebar.SidebarView#tick()} over all assigned players.
+ *
+ * <p>The view renders through a {@link RecordingSidebarBackend} that only counts operations, so
+ * the score is the time spent rendering and diffing. With changing content, a placeholder used by
+ * fourteen of the fifteen lines changes every tick; with static content, nothing is dirty and the
+ * tick only visits the players. Run with the gc profiler (the default) for allocation per tick.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SidebarTickBenchmark {
+    @Param({"10", "50", "100", "500"})
+    public int players;
+
+    @Param({"literal", "dynamic"})
+    public String lineType;
+
+    @Param({"changing", "static"})
+    public String content;
+
+    private BenchmarkSidebar view;
+    private UUID[] playerIds;
+    private boolean changing;
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkServer.install();
+
+        view = new BenchmarkSidebar(lineType.equals("dynamic"));
+        view.setBackend(new RecordingSidebarBackend(false));
+        view.setPlaceholder("tick", "0");
+        changing = content.equals("changing");
+
+        playerIds = new UUID[players];
+        for (int i = 0; i < players; i++) {
+            playerIds[i] = UUID.randomUUID();
+            BenchmarkServer.join(playerIds[i], "Player" + i);
+            view.assignPlayer(playerIds[i]);
+        }
+
+        // Create every scoreboard up front so only steady-state ticks are measured.
+        view.tick();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (UUID playerId : playerIds) {
+            view.unassignPlayer(playerId);
+            BenchmarkServer.quit(playerId);
+        }
+    }
+
+    @Benchmark
+    public void tick() {
+        if (changing) {
+            view.setPlaceholder("tick", String.valueOf(++tick));
+        }
+        view.tick();
+    }
+}
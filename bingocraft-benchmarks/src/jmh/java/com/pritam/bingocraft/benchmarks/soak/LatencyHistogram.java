@@ -0,0 +1,95 @@
+package com.pritam.bingocraft.benchmarks.soak;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram of nanosecond latencies.
+ *
+ * <p>Every power of two is split into 32 linear sub-buckets, which keeps reported
+ * percentiles within about 3% of the true value while recording stays a single atomic
+ * increment. {@link #drain()} resets the counts so each report covers one interval.
+ */
+final class LatencyHistogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(64 * SUB_BUCKETS);
+
+    void record(long nanos) {
+        counts.incrementAndGet(index(Math.max(1, nanos)));
+    }
+
+    /** Returns the counts recorded since the previous call and resets them. */
+    Snapshot drain() {
+        long[] drained = new long[counts.length()];
+        for (int i = 0; i < drained.length; i++) {
+            drained[i] = counts.getAndSet(i, 0);
+        }
+        return new Snapshot(drained);
+    }
+
+    private static int index(long value) {
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent < SUB_BITS) return (int) value;
+
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /** Upper bound of the values that fall into the given bucket. */
+    private static long highestValue(int index) {
+        int block = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        if (block == 0) return sub;
+
+        int shift = block - 1;
+        return ((long) (SUB_BUCKETS + sub + 1) << shift) - 1;
+    }
+
+    /** Lower bound of the values that fall into the given bucket. */
+    private static long lowestValue(int index) {
+        int block = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        if (block == 0) return sub;
+
+        return (long) (SUB_BUCKETS + sub) << (block - 1);
+    }
+
+    static final class Snapshot {
+        private final long[] counts;
+        private final long total;
+
+        private Snapshot(long[] counts) {
+            this.counts = counts;
+            long sum = 0;
+            for (long count : counts) sum += count;
+            this.total = sum;
+        }
+
+        long count() {
+            return total;
+        }
+
+        /** Number of recorded values that are certainly above the threshold. */
+        long countAbove(long threshold) {
+            long above = 0;
+            for (int i = counts.length - 1; i >= 0 && highestValue(i) > threshold; i--) {
+                if (lowestValue(i) > threshold) above += counts[i];
+            }
+            return above;
+        }
+
+        /** Value at the given quantile (0..1) in nanoseconds, or 0 if nothing was recorded. */
+        long percentile(double quantile) {
+            if (total == 0) return 0;
+
+            long rank = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) return highestValue(i);
+            }
+            return highestValue(counts.length - 1);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.pritam.bingocraft.benchmarks.soak;
+
+import com.pritam.bingocraft.api.persistence.SaveServiceReturnCode;
+import com.pritam.bingocraft.plugin.persistence.SaveService;
+import com.pritam.bingocraft.plugin.persistence.SaveServiceMeta;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Long-running load scenario for the {@link SaveService}.
+ *
+ * <p>A population of simulated players joins over the first minute, loads its profile,
+ * mutates and saves it at a realistic rate, and periodically quits and rejoins so that
+ * profiles cycle through the heap cache, the off-heap level and SQLite. Every report
+ * interval the harness prints save/load latency percentiles, flush times and stalls,
+ * write-behind queue growth and memory usage.
+ *
+ * <p>All settings are system properties, passed through Gradle as {@code -Psoak.<name>=<value>}:
+ * <ul>
+ *   <li>{@code soak.players} - simulated players (default 300)</li>
+ *   <li>{@code soak.duration} - run length in minutes (default 30)</li>
+ *   <li>{@code soak.report} - report interval in seconds (default 10)</li>
+ *   <li>{@code soak.action} - mean milliseconds between a player's saves (default 2000)</li>
+ *   <li>{@code soak.session} - mean session length in seconds (default 600)</li>
+ *   <li>{@code soak.offline} - mean time offline between sessions in seconds (default 60)</li>
+ *   <li>{@code soak.payload} - bytes of card history per profile (default 512)</li>
+ *   <li>{@code soak.save-interval} - flush interval in seconds (default 5)</li>
+ *   <li>{@code soak.cache-size} - heap cache entries (default 1000)</li>
+ *   <li>{@code soak.offheap-cache-size} - off-heap cache megabytes (default 32)</li>
+ *   <li>{@code soak.stall} - flushes longer than this many milliseconds count as stalls (default 50)</li>
+ * </ul>
+ */
+public final class PersistenceSoak {
+    private final int players = Integer.getInteger("soak.players", 300);
+    private final long durationMillis = TimeUnit.MINUTES.toMillis(Integer.getInteger("soak.duration", 30));
+    private final long reportMillis = TimeUnit.SECONDS.toMillis(Integer.getInteger("soak.report", 10));
+    private final long actionMillis = Integer.getInteger("soak.action", 2000);
+    private final long sessionMillis = TimeUnit.SECONDS.toMillis(Integer.getInteger("soak.session", 600));
+    private final long offlineMillis = TimeUnit.SECONDS.toMillis(Integer.getInteger("soak.offline", 60));
+    private final int payloadBytes = Integer.getInteger("soak.payload", 512);
+    private final int saveInterval = Integer.getInteger("soak.save-interval", 5);
+    private final int cacheSize = Integer.getInteger("soak.cache-size", 1000);
+    private final int offHeapCacheSize = Integer.getInteger("soak.offheap-cache-size", 32);
+    private final long stallNanos = TimeUnit.MILLISECONDS.toNanos(Integer.getInteger("soak.stall", 50));
+
+    private final LatencyHistogram saveLatency = new LatencyHistogram();
+    private final LatencyHistogram loadLatency = new LatencyHistogram();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicInteger online = new AtomicInteger();
+
+    private final ScheduledExecutorService simulation = Executors.newScheduledThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+    private SaveService service;
+
+    public static void main(String[] args) throws InterruptedException {
+        new PersistenceSoak().run();
+    }
+
+    private void run() throws InterruptedException {
+        try (SoakSaveServiceContext context = new SoakSaveServiceContext()) {
+            SaveServiceMeta meta = new SaveServiceMeta(true, saveInterval, 300, cacheSize, offHeapCacheSize, false, 20, 600);
+            service = new SaveService(meta, context);
+            if (!service.isEnabled()) throw new IllegalStateException("SaveService failed to start");
+
+            System.out.printf("Soak: %d players for %d min, save every ~%d ms, %d byte payloads, flush every %d s%n",
+                    players, TimeUnit.MILLISECONDS.toMinutes(durationMillis), actionMillis, payloadBytes, saveInterval);
+            System.out.printf("%8s %7s %8s %9s %9s %9s %8s %9s %9s %7s %9s %7s %7s %9s %9s%n",
+                    "elapsed", "online", "saves", "save p50", "save p99", "save p999", "loads", "load p50", "load p99",
+                    "flushes", "flush max", "stalls", "queue", "heap MB", "direct MB");
+
+            // Ramp players in over the first minute instead of a thundering herd at t=0.
+            for (int i = 0; i < players; i++) {
+                String key = "player:" + i;
+                simulation.schedule(() -> join(key), ThreadLocalRandom.current().nextLong(60_000), TimeUnit.MILLISECONDS);
+            }
+
+            long start = System.currentTimeMillis();
+            long peakQueue = 0;
+            long totalStalls = 0;
+            while (System.currentTimeMillis() - start < durationMillis) {
+                Thread.sleep(reportMillis);
+                peakQueue = Math.max(peakQueue, service.getQueuedCount());
+                totalStalls += report(context, System.currentTimeMillis() - start);
+            }
+
+            simulation.shutdownNow();
+            simulation.awaitTermination(10, TimeUnit.SECONDS);
+
+            System.out.printf("Done: peak queue %d, %d flush stalls over %d ms, %d failed operations%n",
+                    peakQueue, totalStalls, TimeUnit.NANOSECONDS.toMillis(stallNanos), failures.get());
+            service.shutdown();
+        }
+    }
+
+    private void join(String key) {
+        PlayerProfile profile = new PlayerProfile();
+
+        long start = System.nanoTime();
+        SaveServiceReturnCode code = service.load(key, profile).join();
+        loadLatency.record(System.nanoTime() - start);
+
+        if (code != SaveServiceReturnCode.SUCCESS && code != SaveServiceReturnCode.KEY_NOT_FOUND) {
+            failures.incrementAndGet();
+        }
+
+        online.incrementAndGet();
+        long sessionEnd = System.currentTimeMillis() + exponential(sessionMillis);
+        scheduleAction(key, profile, sessionEnd);
+    }
+
+    private void scheduleAction(String key, PlayerProfile profile, long sessionEnd) {
+        simulation.schedule(() -> act(key, profile, sessionEnd), exponential(actionMillis), TimeUnit.MILLISECONDS);
+    }
+
+    private void act(String key, PlayerProfile profile, long sessionEnd) {
+        profile.mutate(payloadBytes);
+
+        long start = System.nanoTime();
+        SaveServiceReturnCode code = service.save(key, profile);
+        saveLatency.record(System.nanoTime() - start);
+
+        if (code != SaveServiceReturnCode.SUCCESS) failures.incrementAndGet();
+
+        if (System.currentTimeMillis() < sessionEnd) {
+            scheduleAction(key, profile, sessionEnd);
+        } else {
+            online.decrementAndGet();
+            simulation.schedule(() -> join(key), exponential(offlineMillis), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Prints one report line and returns the number of flush stalls in the interval. */
+    private long report(SoakSaveServiceContext context, long elapsedMillis) {
+        LatencyHistogram.Snapshot saves = saveLatency.drain();
+        LatencyHistogram.Snapshot loads = loadLatency.drain();
+        LatencyHistogram.Snapshot flushes = context.drainFlushTimes();
+        long longestFlush = context.drainLongestFlush();
+
+        long stalls = flushes.countAbove(stallNanos);
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long direct = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+
+        System.out.printf("%7ds %7d %8d %9s %9s %9s %8d %9s %9s %7d %9s %7d %7d %9d %9d%n",
+                TimeUnit.MILLISECONDS.toSeconds(elapsedMillis), online.get(),
+                saves.count(), micros(saves.percentile(0.5)), micros(saves.percentile(0.99)), micros(saves.percentile(0.999)),
+                loads.count(), micros(loads.percentile(0.5)), micros(loads.percentile(0.99)),
+                flushes.count(), millis(longestFlush), stalls, service.getQueuedCount(),
+                memory.getHeapMemoryUsage().getUsed() / (1024 * 1024), direct / (1024 * 1024));
+
+        return stalls;
+    }
+
+    private static long exponential(long mean) {
+        return (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * mean);
+    }
+
+    private static String micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos) + "us";
+    }
+
+    private static String millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos) + "ms";
+    }
+}
@@ -0,0 +1,52 @@
+package com.pritam.bingocraft.benchmarks.soak;
+
+import com.pritam.bingocraft.api.persistence.IndexedSaveable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Simulated player data: a few indexed counters plus a bingo card history of configurable size.
+ */
+class PlayerProfile implements IndexedSaveable {
+    private long wins;
+    private long games;
+    private long points;
+    private String history = "";
+
+    /** Applies one in-game change, such as finishing a game or completing a card square. */
+    void mutate(int historyBytes) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        points += random.nextInt(1, 25);
+        if (random.nextInt(10) == 0) {
+            games++;
+            if (random.nextBoolean()) wins++;
+        }
+
+        char[] chars = new char[historyBytes];
+        Arrays.fill(chars, (char) ('a' + random.nextInt(26)));
+        history = new String(chars);
+    }
+
+    @Override
+    public Map<String, Long> getIndexedValues() {
+        return Map.of("wins", wins, "points", points);
+    }
+
+    @Override
+    public String toString() {
+        return wins + ";" + games + ";" + points + ";" + history;
+    }
+
+    @Override
+    public void fromString(String data) {
+        String[] parts = data.split(";", 4);
+        if (parts.length != 4) throw new IllegalArgumentException("Malformed profile: " + data);
+
+        wins = Long.parseLong(parts[0]);
+        games = Long.parseLong(parts[1]);
+        points = Long.parseLong(parts[2]);
+        history = parts[3];
+    }
+}
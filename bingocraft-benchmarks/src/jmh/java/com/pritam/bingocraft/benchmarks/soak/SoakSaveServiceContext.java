@@ -0,0 +1,52 @@
+package com.pritam.bingocraft.benchmarks.soak;
+
+import com.pritam.bingocraft.benchmarks.persistence.TemporarySaveServiceContext;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Temporary context that really runs the service's background tasks, on a scheduler that
+ * maps one tick to 50 ms, and times every flush.
+ */
+class SoakSaveServiceContext extends TemporarySaveServiceContext {
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "soak-save-service");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LatencyHistogram flushTimes = new LatencyHistogram();
+    private final AtomicLong longestFlush = new AtomicLong();
+
+    @Override
+    public void runTaskTimerAsynchronously(String name, Runnable task, long delayTicks, long periodTicks) {
+        Runnable scheduled = !name.equals("flush") ? task : () -> {
+            long start = System.nanoTime();
+            task.run();
+            long elapsed = System.nanoTime() - start;
+
+            flushTimes.record(elapsed);
+            longestFlush.accumulateAndGet(elapsed, Math::max);
+        };
+
+        scheduler.scheduleAtFixedRate(scheduled, delayTicks * 50, periodTicks * 50, TimeUnit.MILLISECONDS);
+    }
+
+    LatencyHistogram.Snapshot drainFlushTimes() {
+        return flushTimes.drain();
+    }
+
+    /** Longest flush since the previous call, in nanoseconds. */
+    long drainLongestFlush() {
+        return longestFlush.getAndSet(0);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        super.close();
+    }
+}
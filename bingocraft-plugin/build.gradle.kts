@@ -8,6 +8,9 @@ dependencies {
     compileOnly(rootProject.ext["paperApi"].toString())
     implementation(project(":bingocraft-api"))
     compileOnly("org.xerial:sqlite-jdbc:3.47.1.0")
+
+    testImplementation(rootProject.ext["paperApi"].toString())
+    testImplementation(testFixtures(project(":bingocraft-api")))
 }
 
 java {
@@ -1,10 +1,14 @@
 package com.pritam.bingocraft.plugin;
 
 import com.pritam.bingocraft.api.BingocraftAPI;
+import com.pritam.bingocraft.plugin.commands.SidebarStatsCommand;
 import com.pritam.bingocraft.plugin.config.MainConfig;
+import com.pritam.bingocraft.plugin.listeners.PlayerListeners;
 import com.pritam.bingocraft.plugin.listeners.ServerListeners;
 import com.pritam.bingocraft.plugin.persistence.SaveService;
+import com.pritam.bingocraft.plugin.placeholder.PlaceholderRegistry;
 import com.pritam.bingocraft.plugin.sidebar.SidebarService;
+import io.papermc.paper.plugin.lifecycle.event.types.LifecycleEvents;
 import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
@@ -12,13 +16,16 @@ import org.bukkit.Bukkit;
 import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.logging.Level;
 
 public class BingocraftCore extends JavaPlugin implements BingocraftAPI {
     @Getter private static BingocraftCore plugin;
     @Getter private static MainConfig mainConfig;
     @Getter private SaveService saveService;
     @Getter private SidebarService sidebarService;
+    @Getter private PlaceholderRegistry placeholderRegistry;
 
     @Override
     public void onEnable() {
@@ -30,17 +37,36 @@ public class BingocraftCore extends JavaPlugin implements BingocraftAPI {
 
         mainConfig = new MainConfig(this);
         saveService = new SaveService();
-        sidebarService = new SidebarService();
+        placeholderRegistry = new PlaceholderRegistry();
+        sidebarService = new SidebarService(placeholderRegistry);
 
-        sidebarService.start(mainConfig.getSidebarUpdateInterval());
+        sidebarService.start(mainConfig.getSidebarUpdateInterval(), mainConfig.getSidebarRenderThreads(),
+                mainConfig.getSidebarTickBudget());
+
+        // Apply edits to config.yml live instead of requiring a restart.
+        mainConfig.subscribe(snapshot -> {
+            sidebarService.reconfigure(snapshot.sidebarUpdateInterval(), snapshot.sidebarTickBudget());
+            saveService.resizeCache(snapshot.saveServiceMeta());
+        });
+        try {
+            mainConfig.startWatching();
+        } catch (IOException e) {
+            getLogger().log(Level.WARNING, "Could not watch config.yml, changes require a restart", e);
+        }
 
         getServer().getPluginManager().registerEvents(new ServerListeners(), this);
+        getServer().getPluginManager().registerEvents(new PlayerListeners(), this);
+
+        getLifecycleManager().registerEventHandler(LifecycleEvents.COMMANDS, event ->
+                event.registrar().register("sidebarstats", "Shows sidebar update statistics",
+                        new SidebarStatsCommand(sidebarService)));
 
         getLogger().info("Enabled plugin!");
     }
 
     @Override
     public void onDisable() {
+        mainConfig.stopWatching();
         saveService.shutdown();
         sidebarService.stop();
 
@@ -0,0 +1,103 @@
+package com.pritam.bingocraft.plugin.commands;
+
+import com.google.common.cache.CacheStats;
+import com.pritam.bingocraft.api.sidebar.SerializationCache;
+import com.pritam.bingocraft.api.sidebar.SidebarService;
+import com.pritam.bingocraft.api.sidebar.SidebarStats;
+import com.pritam.bingocraft.api.sidebar.SidebarView;
+import io.papermc.paper.command.brigadier.BasicCommand;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.command.CommandSender;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Admin command reporting the update statistics of registered sidebar views.
+ *
+ * <p>Usage: {@code /sidebarstats [view|reset]}. Without arguments, every view is listed along
+ * with the serialization cache; {@code reset} clears the counters of all views.</p>
+ */
+public class SidebarStatsCommand implements BasicCommand {
+    private static final String PERMISSION = "bingocraft.command.sidebarstats";
+
+    private final SidebarService service;
+
+    public SidebarStatsCommand(SidebarService service) {
+        this.service = service;
+    }
+
+    @Override
+    public void execute(CommandSourceStack source, String[] args) {
+        CommandSender sender = source.getSender();
+
+        if (args.length == 0) {
+            Collection<SidebarView> views = service.getViews();
+            if (views.isEmpty()) {
+                sender.sendMessage(Component.text("No sidebar views are registered.", NamedTextColor.GRAY));
+            }
+            for (SidebarView view : views) {
+                report(sender, view);
+            }
+
+            CacheStats cache = SerializationCache.stats();
+            sender.sendMessage(Component.text(String.format("Serialization cache: %d entries, %.1f%% hit rate",
+                    SerializationCache.size(), cache.hitRate() * 100), NamedTextColor.GRAY));
+            return;
+        }
+
+        if (args[0].equalsIgnoreCase("reset")) {
+            service.getViews().forEach(view -> view.getStats().reset());
+            sender.sendMessage(Component.text("Sidebar statistics were reset.", NamedTextColor.GREEN));
+            return;
+        }
+
+        SidebarView view = service.getView(args[0]);
+        if (view == null) {
+            sender.sendMessage(Component.text("Unknown sidebar view: " + args[0], NamedTextColor.RED));
+            return;
+        }
+        report(sender, view);
+    }
+
+    @Override
+    public Collection<String> suggest(CommandSourceStack source, String[] args) {
+        if (args.length > 1) return List.of();
+
+        String prefix = args.length == 0 ? "" : args[0].toLowerCase();
+        List<String> suggestions = new ArrayList<>();
+        if ("reset".startsWith(prefix)) suggestions.add("reset");
+        for (SidebarView view : service.getViews()) {
+            if (view.getSCOREBOARD_ID().toLowerCase().startsWith(prefix)) {
+                suggestions.add(view.getSCOREBOARD_ID());
+            }
+        }
+        return suggestions;
+    }
+
+    @Override
+    public String permission() {
+        return PERMISSION;
+    }
+
+    private static void report(CommandSender sender, SidebarView view) {
+        SidebarStats stats = view.getStats();
+        long lines = stats.getLinesRendered() + stats.getLinesSkipped();
+        double skipped = lines == 0 ? 0 : stats.getLinesSkipped() * 100.0 / lines;
+
+        sender.sendMessage(Component.text(view.getSCOREBOARD_ID(), NamedTextColor.GOLD)
+                .append(Component.text(String.format(" (%d players, %d groups)",
+                        view.getPlayers().size(), view.getGroupCount()), NamedTextColor.GRAY)));
+        sender.sendMessage(Component.text(String.format(
+                "  render p50 %.1f us, p99 %.1f us over %d ticks",
+                stats.getRenderTimePercentile(0.5) / 1000.0, stats.getRenderTimePercentile(0.99) / 1000.0,
+                stats.getRecordedTicks()), NamedTextColor.WHITE));
+        sender.sendMessage(Component.text(String.format(
+                "  %d updates, %d lines rendered, %d skipped (%.1f%%), %d operations, %d scoreboards created",
+                stats.getPlayersServed(), stats.getLinesRendered(), stats.getLinesSkipped(), skipped,
+                stats.getOperations(), stats.getAllocations()), NamedTextColor.WHITE));
+    }
+}
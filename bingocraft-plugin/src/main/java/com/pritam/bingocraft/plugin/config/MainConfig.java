@@ -1,17 +1,19 @@
 package com.pritam.bingocraft.plugin.config;
 
-import com.pritam.bingocraft.api.configuration.Config;
+import com.pritam.bingocraft.api.configuration.SnapshotConfig;
 import com.pritam.bingocraft.plugin.BingocraftCore;
 import com.pritam.bingocraft.plugin.persistence.SaveServiceMeta;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
-public class MainConfig extends Config {
+public class MainConfig extends SnapshotConfig<MainConfig.Snapshot> {
     public MainConfig(JavaPlugin plugin) {
         super("config", plugin.getDataFolder(), plugin);
 
@@ -31,16 +33,28 @@ public class MainConfig extends Config {
         addDefault("save-service.save-interval", 60);
         addDefault("save-service.cache-duration", 300);
         addDefault("save-service.cache-size", 1000);
+        addDefault("save-service.offheap-cache-size", 32);
+        addDefault("save-service.coherence.enabled", false);
+        addDefault("save-service.coherence.poll-interval", 20);
+        addDefault("save-service.coherence.retention", 600);
         setComments("save-service", List.of(
                 "save-service.enabled: Whether the save service should be enabled.",
                 "save-service.save-interval: Interval in seconds to save game data.",
                 "save-service.cache-duration: Duration in seconds to keep cached data.",
-                "save-service.cache-size: Maximum number of cached entries."
+                "save-service.cache-size: Maximum number of cached entries.",
+                "save-service.offheap-cache-size: Megabytes of off-heap memory for serialized entries evicted from the cache, 0 to disable.",
+                "save-service.coherence.enabled: Whether to keep caches coherent with other servers sharing the same database.",
+                "save-service.coherence.poll-interval: Interval in ticks to check the database for changes made by other servers.",
+                "save-service.coherence.retention: Duration in seconds to keep entries in the change log."
         ));
 
         addDefault("sidebar.update-interval", 20);
+        addDefault("sidebar.render-threads", 0);
+        addDefault("sidebar.tick-budget", 2000);
         setComments("sidebar", List.of(
-                "sidebar.update-interval: Interval in ticks to update the sidebar for players."
+                "sidebar.update-interval: Interval in ticks to update the sidebar for players.",
+                "sidebar.render-threads: Threads rendering sidebars off the main thread, 0 to render on the main thread.",
+                "sidebar.tick-budget: Microseconds per tick to spend updating sidebars, 0 for no limit. Remaining players are updated in the next tick."
         ));
 
         try {
@@ -48,11 +62,38 @@ public class MainConfig extends Config {
         } catch (IOException e) {
             BingocraftCore.getPlugin().getLogger().log(Level.SEVERE, "Could not save config!", e);
         }
+        refreshSnapshot();
     }
 
-    public Component getMOTD() {
-        List<String> motd = getStringList("motd");
+    @Override
+    protected Snapshot createSnapshot(ConfigurationSection values) {
+        Snapshot snapshot = new Snapshot(
+                parseMotd(values.getStringList("motd")),
+                values.getBoolean("save-service.enabled"),
+                values.getInt("save-service.save-interval"),
+                values.getInt("save-service.cache-duration"),
+                values.getInt("save-service.cache-size"),
+                values.getInt("save-service.offheap-cache-size"),
+                values.getBoolean("save-service.coherence.enabled"),
+                values.getInt("save-service.coherence.poll-interval"),
+                values.getInt("save-service.coherence.retention"),
+                values.getInt("sidebar.update-interval"),
+                values.getInt("sidebar.render-threads"),
+                values.getInt("sidebar.tick-budget"));
+
+        requirePositive("save-service.save-interval", snapshot.saveInterval());
+        requireNotNegative("save-service.cache-duration", snapshot.cacheDuration());
+        requireNotNegative("save-service.cache-size", snapshot.cacheSize());
+        requireNotNegative("save-service.offheap-cache-size", snapshot.offHeapCacheSize());
+        requirePositive("save-service.coherence.poll-interval", snapshot.coherencePollInterval());
+        requirePositive("save-service.coherence.retention", snapshot.coherenceRetention());
+        requirePositive("sidebar.update-interval", snapshot.sidebarUpdateInterval());
+        requireNotNegative("sidebar.render-threads", snapshot.sidebarRenderThreads());
+        requireNotNegative("sidebar.tick-budget", snapshot.sidebarTickBudget());
+        return snapshot;
+    }
 
+    private static Component parseMotd(List<String> motd) {
         if (motd.isEmpty()) {
             return Component.text("No MOTD set.");
         }
@@ -66,36 +107,68 @@ public class MainConfig extends Config {
         return component;
     }
 
+    private static void requirePositive(String path, int value) {
+        if (value <= 0) throw new IllegalArgumentException(path + " must be positive, but is " + value);
+    }
+
+    private static void requireNotNegative(String path, int value) {
+        if (value < 0) throw new IllegalArgumentException(path + " must not be negative, but is " + value);
+    }
+
+    public Component getMOTD() {
+        return getSnapshot().motd();
+    }
+
     public void setMotd(List<String> motd) {
-        set("motd", motd);
+        update(Map.of("motd", motd));
     }
 
     public SaveServiceMeta getSaveServiceMeta() {
-        boolean enabled = getBoolean("save-service.enabled");
-        int saveInterval = getInt("save-service.save-interval");
-        int cacheDuration = getInt("save-service.cache-duration");
-        int cacheSize = getInt("save-service.cache-size");
-
-        return new SaveServiceMeta(enabled, saveInterval, cacheDuration, cacheSize);
+        return getSnapshot().saveServiceMeta();
     }
 
     public void updateSaveServiceMeta(SaveServiceMeta meta) {
-        set("save-service.enabled", meta.isEnabled());
-        set("save-service.save-interval", meta.getSaveInterval());
-        set("save-service.cache-duration", meta.getCacheDuration());
-
-        try {
-            save();
-        } catch (IOException e) {
-            BingocraftCore.getPlugin().getLogger().log(Level.SEVERE, "Could not update save service meta!", e);
-        }
+        update(Map.of(
+                "save-service.enabled", meta.isEnabled(),
+                "save-service.save-interval", meta.getSaveInterval(),
+                "save-service.cache-duration", meta.getCacheDuration(),
+                "save-service.cache-size", meta.getCacheSize(),
+                "save-service.offheap-cache-size", meta.getOffHeapCacheSize(),
+                "save-service.coherence.enabled", meta.isCoherenceEnabled(),
+                "save-service.coherence.poll-interval", meta.getCoherencePollInterval(),
+                "save-service.coherence.retention", meta.getCoherenceRetention()));
     }
 
     public int getSidebarUpdateInterval() {
-        return getInt("sidebar.update-interval");
+        return getSnapshot().sidebarUpdateInterval();
     }
 
     public void setSidebarUpdateInterval(int interval) {
-        set("sidebar.update-interval", interval);
+        update(Map.of("sidebar.update-interval", interval));
+    }
+
+    public int getSidebarRenderThreads() {
+        return getSnapshot().sidebarRenderThreads();
+    }
+
+    public int getSidebarTickBudget() {
+        return getSnapshot().sidebarTickBudget();
+    }
+
+    /**
+     * Validated values of the config, with the MOTD already parsed.
+     */
+    public record Snapshot(Component motd,
+                           boolean saveServiceEnabled, int saveInterval, int cacheDuration, int cacheSize,
+                           int offHeapCacheSize, boolean coherenceEnabled, int coherencePollInterval,
+                           int coherenceRetention,
+                           int sidebarUpdateInterval, int sidebarRenderThreads, int sidebarTickBudget) {
+        /**
+         * @return a new, mutable copy of the save service settings
+         */
+        public SaveServiceMeta saveServiceMeta() {
+            return new SaveServiceMeta(saveServiceEnabled, saveInterval, cacheDuration, cacheSize, offHeapCacheSize,
+                    coherenceEnabled, coherencePollInterval, coherenceRetention);
+        }
     }
 }
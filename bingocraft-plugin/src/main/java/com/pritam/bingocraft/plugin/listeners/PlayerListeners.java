@@ -0,0 +1,20 @@
+package com.pritam.bingocraft.plugin.listeners;
+
+import com.pritam.bingocraft.plugin.BingocraftCore;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+public class PlayerListeners implements Listener {
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        BingocraftCore.getPlugin().getSidebarService().handleJoin(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        BingocraftCore.getPlugin().getSidebarService().handleQuit(event.getPlayer().getUniqueId());
+    }
+}
@@ -0,0 +1,33 @@
+package com.pritam.bingocraft.plugin.persistence;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.util.logging.Logger;
+
+/**
+ * {@link SaveServiceContext} backed by a plugin and the Bukkit scheduler.
+ */
+public class BukkitSaveServiceContext implements SaveServiceContext {
+    private final Plugin plugin;
+
+    public BukkitSaveServiceContext(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public File getDataFolder() {
+        return plugin.getDataFolder();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return plugin.getLogger();
+    }
+
+    @Override
+    public void runTaskTimerAsynchronously(String name, Runnable task, long delayTicks, long periodTicks) {
+        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, task, delayTicks, periodTicks);
+    }
+}
@@ -0,0 +1,122 @@
+package com.pritam.bingocraft.plugin.persistence;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the caches of several processes sharing one database coherent.
+ *
+ * <p>Every committed write appends the changed keys to {@code saved_object_changes}, tagged
+ * with this process' node id. {@link #poll()} first asks SQLite for {@code PRAGMA data_version},
+ * which only changes when another connection commits, so a quiet database costs a single
+ * pragma per poll. When it does change, the new log rows written by other nodes are read and
+ * only their keys are invalidated.
+ *
+ * <p>Rows older than the retention window are pruned by {@link #prune()}. A node that falls
+ * so far behind that rows it has not seen were pruned drops its whole cache instead.
+ */
+class ChangeLog {
+    private final Connection connection;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final long retentionMillis;
+    private final Consumer<String> invalidateKey;
+    private final Runnable invalidateAll;
+
+    private long lastSeq;
+    private long dataVersion;
+
+    ChangeLog(Connection connection, long retentionMillis, Consumer<String> invalidateKey, Runnable invalidateAll) throws SQLException {
+        this.connection = connection;
+        this.retentionMillis = retentionMillis;
+        this.invalidateKey = invalidateKey;
+        this.invalidateAll = invalidateAll;
+
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS saved_object_changes (seq INTEGER PRIMARY KEY AUTOINCREMENT, key TEXT NOT NULL, node TEXT NOT NULL, changed_at INTEGER NOT NULL);");
+            stmt.executeUpdate("CREATE INDEX IF NOT EXISTS saved_object_changes_time ON saved_object_changes (changed_at);");
+
+            try (ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(seq), 0) FROM saved_object_changes;")) {
+                lastSeq = rs.next() ? rs.getLong(1) : 0;
+            }
+            dataVersion = readDataVersion(stmt);
+        }
+    }
+
+    /**
+     * Appends the given keys to the log. Must be called inside the transaction that
+     * performs the write, while holding the connection lock.
+     */
+    void record(Collection<String> keys) throws SQLException {
+        long now = System.currentTimeMillis();
+
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "INSERT INTO saved_object_changes (key, node, changed_at) VALUES (?, ?, ?);")) {
+            for (String key : keys) {
+                stmt.setString(1, key);
+                stmt.setString(2, nodeId);
+                stmt.setLong(3, now);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    /**
+     * Invalidates cache entries for keys changed by other nodes since the last poll.
+     */
+    void poll() throws SQLException {
+        synchronized (connection) {
+            try (Statement stmt = connection.createStatement()) {
+                long version = readDataVersion(stmt);
+                if (version == dataVersion) return;
+                dataVersion = version;
+
+                try (ResultSet rs = stmt.executeQuery("SELECT MIN(seq) FROM saved_object_changes;")) {
+                    long oldest = rs.next() ? rs.getLong(1) : 0;
+                    if (oldest > lastSeq + 1) {
+                        // Entries we never saw were pruned, nothing in the cache can be trusted.
+                        invalidateAll.run();
+                    }
+                }
+            }
+
+            try (PreparedStatement stmt = connection.prepareStatement(
+                    "SELECT seq, key, node FROM saved_object_changes WHERE seq > ? ORDER BY seq;")) {
+                stmt.setLong(1, lastSeq);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        lastSeq = rs.getLong("seq");
+                        if (!nodeId.equals(rs.getString("node"))) {
+                            invalidateKey.accept(rs.getString("key"));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes log rows older than the retention window.
+     */
+    void prune() throws SQLException {
+        synchronized (connection) {
+            try (PreparedStatement stmt = connection.prepareStatement(
+                    "DELETE FROM saved_object_changes WHERE changed_at < ?;")) {
+                stmt.setLong(1, System.currentTimeMillis() - retentionMillis);
+                stmt.executeUpdate();
+            }
+        }
+    }
+
+    private static long readDataVersion(Statement stmt) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("PRAGMA data_version;")) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.pritam.bingocraft.plugin.persistence;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * Reads one generation of a large object from SQLite, fetching chunks lazily.
+ *
+ * <p>Only the chunk under the read position is held in memory. Skipping moves the
+ * position arithmetically, so chunks that are skipped over are never loaded.
+ */
+class LargeObjectInputStream extends InputStream {
+    private final Connection connection;
+    private final String key;
+    private final long generation;
+    private final long size;
+    private final int chunkSize;
+
+    private byte[] chunk;
+    private int loadedChunk = -1;
+    private long position;
+    private boolean closed;
+
+    LargeObjectInputStream(Connection connection, String key, long generation, long size, int chunkSize, long offset) {
+        this.connection = connection;
+        this.key = key;
+        this.generation = generation;
+        this.size = size;
+        this.chunkSize = chunkSize;
+        this.position = Math.min(offset, size);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!prepareChunk()) return -1;
+
+        int b = chunk[(int) (position % chunkSize)] & 0xFF;
+        position++;
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) return 0;
+        if (!prepareChunk()) return -1;
+
+        int chunkOffset = (int) (position % chunkSize);
+        int count = (int) Math.min(len, Math.min(chunk.length - chunkOffset, size - position));
+        System.arraycopy(chunk, chunkOffset, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        ensureOpen();
+        if (n <= 0) return 0;
+
+        long skipped = Math.min(n, size - position);
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        if (chunk == null || loadedChunk != (int) (position / chunkSize)) return 0;
+
+        return (int) Math.min(chunk.length - position % chunkSize, size - position);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        chunk = null;
+    }
+
+    /**
+     * Makes sure the chunk under the current position is loaded.
+     *
+     * @return false if the end of the object has been reached
+     */
+    private boolean prepareChunk() throws IOException {
+        ensureOpen();
+        if (position >= size) return false;
+
+        int index = (int) (position / chunkSize);
+        if (index == loadedChunk) return true;
+
+        synchronized (connection) {
+            try (PreparedStatement stmt = connection.prepareStatement(
+                    "SELECT data FROM large_object_chunks WHERE key = ? AND generation = ? AND chunk = ?;")) {
+                stmt.setString(1, key);
+                stmt.setLong(2, generation);
+                stmt.setInt(3, index);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (!rs.next()) {
+                        throw new IOException("Large object " + key + " was replaced or deleted while reading");
+                    }
+                    chunk = rs.getBytes("data");
+                    loadedChunk = index;
+                }
+            } catch (SQLException e) {
+                throw new IOException("Could not read chunk " + index + " of large object " + key, e);
+            }
+        }
+
+        return true;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) throw new IOException("Stream closed");
+    }
+}
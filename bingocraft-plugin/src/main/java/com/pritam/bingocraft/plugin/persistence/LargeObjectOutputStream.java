@@ -0,0 +1,152 @@
+package com.pritam.bingocraft.plugin.persistence;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes a large object to SQLite in fixed-size chunks under a fresh generation.
+ *
+ * <p>Chunks are inserted as soon as they fill up, so memory use is bounded by one chunk.
+ * The metadata row is switched to the new generation on {@link #close()}, which makes the
+ * write visible atomically and drops the chunks of the previous generation.
+ */
+class LargeObjectOutputStream extends OutputStream {
+    private final Connection connection;
+    private final String key;
+    private final long generation;
+    private final byte[] buffer;
+
+    private int position;
+    private int chunkIndex;
+    private long size;
+    private boolean closed;
+
+    LargeObjectOutputStream(Connection connection, String key, int chunkSize) {
+        this.connection = connection;
+        this.key = key;
+        this.generation = ThreadLocalRandom.current().nextLong();
+        this.buffer = new byte[chunkSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        buffer[position++] = (byte) b;
+        size++;
+        if (position == buffer.length) writeChunk();
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureOpen();
+
+        while (len > 0) {
+            int count = Math.min(len, buffer.length - position);
+            System.arraycopy(b, off, buffer, position, count);
+            position += count;
+            size += count;
+            off += count;
+            len -= count;
+
+            if (position == buffer.length) writeChunk();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+
+        if (position > 0) writeChunk();
+
+        synchronized (connection) {
+            try (PreparedStatement selectStmt = connection.prepareStatement(
+                    "SELECT generation FROM large_objects WHERE key = ?;");
+                 PreparedStatement metaStmt = connection.prepareStatement(
+                    "INSERT OR REPLACE INTO large_objects (key, generation, size, chunk_size) VALUES (?, ?, ?, ?);");
+                 PreparedStatement dropStmt = connection.prepareStatement(
+                    "DELETE FROM large_object_chunks WHERE key = ? AND generation = ?;")) {
+                connection.setAutoCommit(false);
+
+                selectStmt.setString(1, key);
+                try (ResultSet rs = selectStmt.executeQuery()) {
+                    if (rs.next()) {
+                        dropStmt.setString(1, key);
+                        dropStmt.setLong(2, rs.getLong("generation"));
+                        dropStmt.executeUpdate();
+                    }
+                }
+
+                metaStmt.setString(1, key);
+                metaStmt.setLong(2, generation);
+                metaStmt.setLong(3, size);
+                metaStmt.setInt(4, buffer.length);
+                metaStmt.executeUpdate();
+
+                connection.commit();
+            } catch (SQLException e) {
+                rollbackQuietly();
+                discard();
+                throw new IOException("Could not commit large object " + key, e);
+            } finally {
+                try {
+                    connection.setAutoCommit(true);
+                } catch (SQLException ignored) {
+                }
+            }
+        }
+    }
+
+    private void writeChunk() throws IOException {
+        synchronized (connection) {
+            try (PreparedStatement stmt = connection.prepareStatement(
+                    "INSERT INTO large_object_chunks (key, generation, chunk, data) VALUES (?, ?, ?, ?);")) {
+                stmt.setString(1, key);
+                stmt.setLong(2, generation);
+                stmt.setInt(3, chunkIndex);
+                stmt.setBytes(4, position == buffer.length ? buffer : Arrays.copyOf(buffer, position));
+                stmt.executeUpdate();
+            } catch (SQLException e) {
+                closed = true;
+                discard();
+                throw new IOException("Could not write chunk " + chunkIndex + " of large object " + key, e);
+            }
+        }
+
+        chunkIndex++;
+        position = 0;
+    }
+
+    /** Best-effort removal of the chunks written by this stream after a failure. */
+    private void discard() {
+        synchronized (connection) {
+            try (PreparedStatement stmt = connection.prepareStatement(
+                    "DELETE FROM large_object_chunks WHERE key = ? AND generation = ?;")) {
+                stmt.setString(1, key);
+                stmt.setLong(2, generation);
+                stmt.executeUpdate();
+            } catch (SQLException ignored) {
+                // Orphaned chunks are swept when the service starts without coherence.
+            }
+        }
+    }
+
+    private void rollbackQuietly() {
+        try {
+            connection.rollback();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) throw new IOException("Stream closed");
+    }
+}
@@ -0,0 +1,151 @@
+package com.pritam.bingocraft.plugin.persistence;
+
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Second-level cache that keeps serialized objects outside the Java heap.
+ *
+ * <p>Payloads are stored as UTF-8 in a single direct buffer that is split into fixed-size
+ * pages. An entry occupies a chain of pages linked through {@link #nextPage}, so the arena
+ * never fragments, and the least recently used entries are evicted until a new payload fits
+ * into the configured byte budget. Only the small key index lives on the heap.
+ *
+ * <p>All methods are synchronized; the cache is only touched on level-one misses, evictions
+ * and invalidations, so contention stays low.
+ */
+class OffHeapCache {
+    /** Size of a single arena page; small enough that typical payloads waste little space. */
+    static final int PAGE_SIZE = 512;
+
+    private final ByteBuffer arena;
+    private final int[] nextPage;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private int freeHead;
+    private int freePages;
+
+    @Getter private long hitCount;
+    @Getter private long missCount;
+    @Getter private long evictionCount;
+
+    /**
+     * Creates a cache backed by a direct buffer of (at most) the given size.
+     *
+     * @param capacityBytes the byte budget of the arena, rounded down to whole pages
+     */
+    OffHeapCache(long capacityBytes) {
+        int pages = (int) Math.min(capacityBytes / PAGE_SIZE, Integer.MAX_VALUE / PAGE_SIZE);
+
+        this.arena = ByteBuffer.allocateDirect(pages * PAGE_SIZE);
+        this.nextPage = new int[pages];
+        for (int i = 0; i < pages; i++) {
+            nextPage[i] = i + 1 < pages ? i + 1 : -1;
+        }
+        this.freeHead = pages > 0 ? 0 : -1;
+        this.freePages = pages;
+    }
+
+    /**
+     * Stores a serialized payload, evicting least recently used entries as needed.
+     * Payloads larger than the whole arena are not cached.
+     */
+    synchronized void put(String key, String data) {
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        int needed = (bytes.length + PAGE_SIZE - 1) / PAGE_SIZE;
+
+        remove(key);
+        if (needed > nextPage.length) return;
+
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (freePages < needed && eldest.hasNext()) {
+            release(eldest.next().getValue());
+            eldest.remove();
+            evictionCount++;
+        }
+
+        int first = -1;
+        int previous = -1;
+        for (int i = 0, offset = 0; i < needed; i++, offset += PAGE_SIZE) {
+            int page = freeHead;
+            freeHead = nextPage[page];
+            freePages--;
+
+            arena.put(page * PAGE_SIZE, bytes, offset, Math.min(PAGE_SIZE, bytes.length - offset));
+            nextPage[page] = -1;
+            if (previous == -1) {
+                first = page;
+            } else {
+                nextPage[previous] = page;
+            }
+            previous = page;
+        }
+
+        entries.put(key, new Entry(first, bytes.length));
+    }
+
+    /**
+     * Returns the payload stored under the key, or null if it is not cached.
+     */
+    synchronized String get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+
+        byte[] bytes = new byte[entry.length()];
+        for (int page = entry.firstPage(), offset = 0; page != -1; page = nextPage[page], offset += PAGE_SIZE) {
+            arena.get(page * PAGE_SIZE, bytes, offset, Math.min(PAGE_SIZE, bytes.length - offset));
+        }
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    synchronized boolean contains(String key) {
+        return entries.containsKey(key);
+    }
+
+    synchronized void invalidate(String key) {
+        remove(key);
+    }
+
+    synchronized void invalidateAll() {
+        entries.values().forEach(this::release);
+        entries.clear();
+    }
+
+    /** Number of payload bytes currently held in the arena. */
+    synchronized long usedBytes() {
+        return (long) (nextPage.length - freePages) * PAGE_SIZE;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) release(entry);
+    }
+
+    /** Returns the pages of an entry to the free list. */
+    private void release(Entry entry) {
+        int page = entry.firstPage();
+        while (page != -1) {
+            int next = nextPage[page];
+            nextPage[page] = freeHead;
+            freeHead = page;
+            freePages++;
+            page = next;
+        }
+    }
+
+    private record Entry(int firstPage, int length) {}
+}
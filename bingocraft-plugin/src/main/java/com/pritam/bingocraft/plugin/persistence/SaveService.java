@@ -3,16 +3,22 @@ package com.pritam.bingocraft.plugin.persistence;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheStats;
+import com.pritam.bingocraft.api.persistence.IndexPage;
+import com.pritam.bingocraft.api.persistence.IndexQuery;
+import com.pritam.bingocraft.api.persistence.IndexedSaveable;
+import com.pritam.bingocraft.api.persistence.SaveServiceException;
 import com.pritam.bingocraft.api.persistence.SaveableObject;
 import com.pritam.bingocraft.api.persistence.SaveServiceReturnCode;
 import com.pritam.bingocraft.api.utils.Pair;
 import com.pritam.bingocraft.plugin.BingocraftCore;
 import lombok.Getter;
-import org.bukkit.Bukkit;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -23,27 +29,55 @@ import java.util.logging.Level;
  * Thread‑safe, write‑behind persistence layer backed by SQLite and a Guava cache.
  */
 public class SaveService implements com.pritam.bingocraft.api.persistence.SaveService {
+    /** Size of the chunks large objects are split into. */
+    private static final int LARGE_OBJECT_CHUNK_SIZE = 64 * 1024;
+
     @Getter
     private final boolean enabled;
 
     /** Objects waiting to be flushed to disk. */
     private final Set<Pair<String, SaveableObject>> queuedObjects = ConcurrentHashMap.newKeySet();
 
-    /** In‑memory cache that expires after access and caps its size. */
-    private final Cache<String, SaveableObject> cachedObjects;
+    /** In‑memory cache that expires after access and caps its size; replaced as a whole by {@link #resizeCache}. */
+    private volatile Cache<String, SaveableObject> cachedObjects;
+
+    /** Size and expiry in seconds {@link #cachedObjects} was built with. */
+    private int cacheSize;
+    private int cacheDuration;
+
+    /** Off‑heap second level holding serialized entries evicted from {@link #cachedObjects}, or null if disabled. */
+    private final OffHeapCache offHeapCache;
+
+    /**
+     * Entries evicted from {@link #cachedObjects} that are being serialized into {@link #offHeapCache}.
+     * Demotion happens off the thread that triggered the eviction; until it is done, the entry is
+     * served from here. Changed together with the off‑heap level while holding its lock.
+     */
+    private final Map<String, SaveableObject> demoting = new ConcurrentHashMap<>();
 
     /** SQLite connection (WAL, busy‑timeout, etc.). */
     private Connection connection;
 
+    /** Change log shared with other processes using the same database, or null if coherence is disabled. */
+    private ChangeLog changeLog;
+
+    /** Host facilities: data folder, logger and async scheduling. */
+    private final SaveServiceContext context;
+
     public SaveService() {
-        SaveServiceMeta meta = BingocraftCore.getMainConfig().getSaveServiceMeta();
+        this(BingocraftCore.getMainConfig().getSaveServiceMeta(), new BukkitSaveServiceContext(BingocraftCore.getPlugin()));
+    }
+
+    public SaveService(SaveServiceMeta meta, SaveServiceContext context) {
+        this.context = context;
 
         Cache<String, SaveableObject> cache = CacheBuilder.newBuilder().maximumSize(0).build();
+        OffHeapCache secondLevel = null;
         boolean serviceEnabled = false;
 
         if (meta.isEnabled()) {
             try {
-                String dbUrl = "jdbc:sqlite:" + BingocraftCore.getPlugin().getDataFolder() + "/bingocraft.db?busy_timeout=5000";
+                String dbUrl = "jdbc:sqlite:" + context.getDataFolder() + "/bingocraft.db?busy_timeout=5000";
                 connection = DriverManager.getConnection(dbUrl);
 
                 try (Statement stmt = connection.createStatement()) {
@@ -53,21 +87,50 @@ public class SaveService implements com.pritam.bingocraft.api.persistence.SaveSe
                     stmt.execute("PRAGMA mmap_size=268435456;");
 
                     stmt.executeUpdate("CREATE TABLE IF NOT EXISTS saved_objects (key TEXT PRIMARY KEY, data TEXT);");
+                    stmt.executeUpdate("CREATE TABLE IF NOT EXISTS saved_object_indexes (field TEXT NOT NULL, key TEXT NOT NULL, value INTEGER NOT NULL, PRIMARY KEY (field, key)) WITHOUT ROWID;");
+                    stmt.executeUpdate("CREATE INDEX IF NOT EXISTS saved_object_indexes_range ON saved_object_indexes (field, value, key);");
+                    stmt.executeUpdate("CREATE TABLE IF NOT EXISTS large_objects (key TEXT PRIMARY KEY, generation INTEGER NOT NULL, size INTEGER NOT NULL, chunk_size INTEGER NOT NULL);");
+                    stmt.executeUpdate("CREATE TABLE IF NOT EXISTS large_object_chunks (key TEXT NOT NULL, generation INTEGER NOT NULL, chunk INTEGER NOT NULL, data BLOB NOT NULL, PRIMARY KEY (key, generation, chunk));");
+
+                    // Sweep chunks left behind by large object writes that were never committed. With
+                    // coherence, other processes share the database and their uncommitted chunks
+                    // can't be told apart from orphans, so they are left alone.
+                    if (!meta.isCoherenceEnabled()) {
+                        stmt.executeUpdate("DELETE FROM large_object_chunks WHERE NOT EXISTS (SELECT 1 FROM large_objects m WHERE m.key = large_object_chunks.key AND m.generation = large_object_chunks.generation);");
+                    }
                 }
 
-                cache = CacheBuilder.newBuilder()
-                        .maximumSize(meta.getCacheSize())
-                        .expireAfterAccess(meta.getCacheDuration(), TimeUnit.SECONDS)
-                        .build();
+                if (meta.getOffHeapCacheSize() > 0) {
+                    secondLevel = new OffHeapCache(meta.getOffHeapCacheSize() * 1024L * 1024L);
+                }
+                cache = buildCache(meta, secondLevel != null);
+                cacheSize = meta.getCacheSize();
+                cacheDuration = meta.getCacheDuration();
+
+                if (meta.isCoherenceEnabled()) {
+                    requirePositive("coherence poll interval", meta.getCoherencePollInterval());
+                    requirePositive("coherence retention", meta.getCoherenceRetention());
+                    changeLog = new ChangeLog(connection, meta.getCoherenceRetention() * 1000L,
+                            this::invalidateCached, this::invalidateAllCached);
+                    startCoherenceTasks(meta.getCoherencePollInterval(), meta.getCoherenceRetention());
+                }
 
                 serviceEnabled = true;
                 startSaveTask(meta.getSaveInterval());
             } catch (SQLException e) {
-                BingocraftCore.getPlugin().getLogger().log(Level.WARNING, "SaveService disabled: database connection failure", e);
+                context.getLogger().log(Level.WARNING, "SaveService disabled: database connection failure", e);
+            } catch (IllegalArgumentException e) {
+                context.getLogger().log(Level.SEVERE, "SaveService disabled: " + e.getMessage());
+                try {
+                    connection.close();
+                } catch (SQLException closeFailure) {
+                    context.getLogger().log(Level.WARNING, "Error closing database connection", closeFailure);
+                }
             }
         }
 
         this.cachedObjects = cache;
+        this.offHeapCache = secondLevel;
         this.enabled = serviceEnabled;
     }
 
@@ -77,7 +140,13 @@ public class SaveService implements com.pritam.bingocraft.api.persistence.SaveSe
         if (key == null || key.isBlank()) return SaveServiceReturnCode.INVALID_KEY;
 
         queuedObjects.add(new Pair<>(key, object));
-        cachedObjects.put(key, object);
+        // The stale off‑heap copy goes first, so an object evicted right away is demoted, not lost.
+        invalidateOffHeap(key);
+        Cache<String, SaveableObject> cache = cachedObjects;
+        cache.put(key, object);
+        // If resizeCache swapped the cache meanwhile, the put may have missed the carry‑over. The
+        // object isn't flushed yet, so a load falling through to the database would read a stale row.
+        if (cachedObjects != cache) cachedObjects.put(key, object);
 
         return SaveServiceReturnCode.SUCCESS;
     }
@@ -95,18 +164,27 @@ public class SaveService implements com.pritam.bingocraft.api.persistence.SaveSe
                 return SaveServiceReturnCode.SUCCESS;
             }
 
-            try (PreparedStatement stmt = connection.prepareStatement("SELECT data FROM saved_objects WHERE key = ?")) {
-                stmt.setString(1, key);
-                try (ResultSet rs = stmt.executeQuery()) {
-                    if (rs.next()) {
-                        emptyInstance.fromString(rs.getString("data"));
-                        cachedObjects.put(key, emptyInstance);
-                        return SaveServiceReturnCode.SUCCESS;
+            String serialized = readOffHeap(key);
+            if (serialized != null) {
+                emptyInstance.fromString(serialized);
+                cachedObjects.put(key, emptyInstance);
+                return SaveServiceReturnCode.SUCCESS;
+            }
+
+            synchronized (connection) {
+                try (PreparedStatement stmt = connection.prepareStatement("SELECT data FROM saved_objects WHERE key = ?")) {
+                    stmt.setString(1, key);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        if (rs.next()) {
+                            emptyInstance.fromString(rs.getString("data"));
+                            cachedObjects.put(key, emptyInstance);
+                            return SaveServiceReturnCode.SUCCESS;
+                        }
                     }
+                } catch (SQLException e) {
+                    context.getLogger().log(Level.SEVERE, "Error loading key " + key, e);
+                    return SaveServiceReturnCode.SQL_ERROR;
                 }
-            } catch (SQLException e) {
-                BingocraftCore.getPlugin().getLogger().log(Level.SEVERE, "Error loading key " + key, e);
-                return SaveServiceReturnCode.SQL_ERROR;
             }
 
             return SaveServiceReturnCode.KEY_NOT_FOUND;
@@ -120,12 +198,24 @@ public class SaveService implements com.pritam.bingocraft.api.persistence.SaveSe
 
         return CompletableFuture.supplyAsync(() -> {
             cachedObjects.invalidate(key);
+            invalidateOffHeap(key);
 
-            try (PreparedStatement stmt = connection.prepareStatement("DELETE FROM saved_objects WHERE key = ?")) {
-                stmt.setString(1, key);
-                return stmt.executeUpdate() > 0 ? SaveServiceReturnCode.SUCCESS : SaveServiceReturnCode.KEY_NOT_FOUND;
+            try {
+                return inTransaction(() -> {
+                    try (PreparedStatement stmt = connection.prepareStatement("DELETE FROM saved_objects WHERE key = ?");
+                         PreparedStatement indexStmt = connection.prepareStatement("DELETE FROM saved_object_indexes WHERE key = ?")) {
+                        indexStmt.setString(1, key);
+                        indexStmt.executeUpdate();
+
+                        stmt.setString(1, key);
+                        if (stmt.executeUpdate() == 0) return SaveServiceReturnCode.KEY_NOT_FOUND;
+                    }
+
+                    if (changeLog != null) changeLog.record(List.of(key));
+                    return SaveServiceReturnCode.SUCCESS;
+                });
             } catch (SQLException e) {
-                BingocraftCore.getPlugin().getLogger().log(Level.SEVERE, "Error deleting key " + key, e);
+                context.getLogger().log(Level.SEVERE, "Error deleting key " + key, e);
                 return SaveServiceReturnCode.SQL_ERROR;
             }
         });
@@ -138,48 +228,398 @@ public class SaveService implements com.pritam.bingocraft.api.persistence.SaveSe
 
         return CompletableFuture.supplyAsync(() -> {
             if (cachedObjects.getIfPresent(key) != null) return SaveServiceReturnCode.EXISTS;
+            if (offHeapCache != null && (demoting.containsKey(key) || offHeapCache.contains(key))) {
+                return SaveServiceReturnCode.EXISTS;
+            }
+
+            synchronized (connection) {
+                try (PreparedStatement stmt = connection.prepareStatement("SELECT 1 FROM saved_objects WHERE key = ?")) {
+                    stmt.setString(1, key);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        return rs.next() ? SaveServiceReturnCode.EXISTS : SaveServiceReturnCode.NOT_EXISTS;
+                    }
+                } catch (SQLException e) {
+                    context.getLogger().log(Level.SEVERE, "Exists check failed for key " + key, e);
+                    return SaveServiceReturnCode.SQL_ERROR;
+                }
+            }
+        });
+    }
 
-            try (PreparedStatement stmt = connection.prepareStatement("SELECT 1 FROM saved_objects WHERE key = ?")) {
+    @Override
+    public CompletableFuture<IndexPage> queryIndex(IndexQuery query) {
+        if (!enabled) return CompletableFuture.completedFuture(IndexPage.of(SaveServiceReturnCode.OFFLINE));
+        if (query.field() == null || query.field().isBlank()) return CompletableFuture.completedFuture(IndexPage.of(SaveServiceReturnCode.INVALID_KEY));
+
+        return CompletableFuture.supplyAsync(() -> {
+            IndexPage.Entry after = query.after();
+            String order = query.descending() ? "DESC" : "ASC";
+            String sql = "SELECT key, value FROM saved_object_indexes WHERE field = ? AND value BETWEEN ? AND ?"
+                    + (after == null ? "" : query.descending()
+                        ? " AND (value < ? OR (value = ? AND key < ?))"
+                        : " AND (value > ? OR (value = ? AND key > ?))")
+                    + " ORDER BY value " + order + ", key " + order + " LIMIT ?;";
+
+            synchronized (connection) {
+                try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                    int param = 1;
+                    stmt.setString(param++, query.field());
+                    stmt.setLong(param++, query.min());
+                    stmt.setLong(param++, query.max());
+                    if (after != null) {
+                        stmt.setLong(param++, after.value());
+                        stmt.setLong(param++, after.value());
+                        stmt.setString(param++, after.key());
+                    }
+                    // Fetch one extra row to learn whether another page exists.
+                    stmt.setInt(param, query.pageSize() + 1);
+
+                    List<IndexPage.Entry> entries = new ArrayList<>(query.pageSize());
+                    boolean hasMore = false;
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            if (entries.size() == query.pageSize()) {
+                                hasMore = true;
+                                break;
+                            }
+                            entries.add(new IndexPage.Entry(rs.getString("key"), rs.getLong("value")));
+                        }
+                    }
+
+                    IndexQuery next = hasMore ? query.withAfter(entries.getLast()) : null;
+                    return new IndexPage(SaveServiceReturnCode.SUCCESS, List.copyOf(entries), next);
+                } catch (SQLException e) {
+                    context.getLogger().log(Level.SEVERE, "Index query failed for field " + query.field(), e);
+                    return IndexPage.of(SaveServiceReturnCode.SQL_ERROR);
+                }
+            }
+        });
+    }
+
+    @Override
+    public OutputStream openWrite(String key) throws SaveServiceException {
+        if (!enabled) throw new SaveServiceException(SaveServiceReturnCode.OFFLINE, "SaveService is offline");
+        if (key == null || key.isBlank()) throw new SaveServiceException(SaveServiceReturnCode.INVALID_KEY, "Invalid key");
+
+        return new LargeObjectOutputStream(connection, key, LARGE_OBJECT_CHUNK_SIZE);
+    }
+
+    @Override
+    public InputStream openRead(String key, long offset) throws SaveServiceException {
+        if (offset < 0) throw new IllegalArgumentException("Offset must not be negative");
+        if (!enabled) throw new SaveServiceException(SaveServiceReturnCode.OFFLINE, "SaveService is offline");
+        if (key == null || key.isBlank()) throw new SaveServiceException(SaveServiceReturnCode.INVALID_KEY, "Invalid key");
+
+        synchronized (connection) {
+            try (PreparedStatement stmt = connection.prepareStatement(
+                    "SELECT generation, size, chunk_size FROM large_objects WHERE key = ?")) {
                 stmt.setString(1, key);
                 try (ResultSet rs = stmt.executeQuery()) {
-                    return rs.next() ? SaveServiceReturnCode.EXISTS : SaveServiceReturnCode.NOT_EXISTS;
+                    if (!rs.next()) {
+                        throw new SaveServiceException(SaveServiceReturnCode.KEY_NOT_FOUND, "No large object with key " + key);
+                    }
+
+                    return new LargeObjectInputStream(connection, key,
+                            rs.getLong("generation"), rs.getLong("size"), rs.getInt("chunk_size"), offset);
                 }
             } catch (SQLException e) {
-                BingocraftCore.getPlugin().getLogger().log(Level.SEVERE, "Exists check failed for key " + key, e);
-                return SaveServiceReturnCode.SQL_ERROR;
+                context.getLogger().log(Level.SEVERE, "Error opening large object " + key, e);
+                throw new SaveServiceException(SaveServiceReturnCode.SQL_ERROR, "Could not open large object " + key, e);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<SaveServiceReturnCode> deleteLarge(String key) {
+        if (!enabled) return CompletableFuture.completedFuture(SaveServiceReturnCode.OFFLINE);
+        if (key == null || key.isBlank()) return CompletableFuture.completedFuture(SaveServiceReturnCode.INVALID_KEY);
+
+        return CompletableFuture.supplyAsync(() -> {
+            synchronized (connection) {
+                // Only the committed generation is dropped, a concurrent writer keeps its chunks.
+                try (PreparedStatement chunkStmt = connection.prepareStatement(
+                        "DELETE FROM large_object_chunks WHERE key = ? AND generation = (SELECT generation FROM large_objects WHERE key = ?)");
+                     PreparedStatement stmt = connection.prepareStatement("DELETE FROM large_objects WHERE key = ?")) {
+                    chunkStmt.setString(1, key);
+                    chunkStmt.setString(2, key);
+                    chunkStmt.executeUpdate();
+
+                    stmt.setString(1, key);
+                    return stmt.executeUpdate() > 0 ? SaveServiceReturnCode.SUCCESS : SaveServiceReturnCode.KEY_NOT_FOUND;
+                } catch (SQLException e) {
+                    context.getLogger().log(Level.SEVERE, "Error deleting large object " + key, e);
+                    return SaveServiceReturnCode.SQL_ERROR;
+                }
             }
         });
     }
 
     private void startSaveTask(int saveIntervalSeconds) {
-        Bukkit.getScheduler().runTaskTimerAsynchronously(
-                BingocraftCore.getPlugin(),
+        context.runTaskTimerAsynchronously(
+                "flush",
                 this::flushQueuedObjects,
                 saveIntervalSeconds * 20L,
                 saveIntervalSeconds * 20L);
     }
 
+    private void startCoherenceTasks(int pollIntervalTicks, int retentionSeconds) {
+        context.runTaskTimerAsynchronously(
+                "coherence-poll",
+                () -> {
+                    try {
+                        changeLog.poll();
+                    } catch (SQLException e) {
+                        context.getLogger().log(Level.WARNING, "Change log poll failed", e);
+                    }
+                },
+                pollIntervalTicks,
+                pollIntervalTicks);
+
+        // Pruning is far less urgent than polling; a few times per retention window is enough.
+        long pruneTicks = Math.max(20L, retentionSeconds * 20L / 4);
+        context.runTaskTimerAsynchronously(
+                "coherence-prune",
+                () -> {
+                    try {
+                        changeLog.prune();
+                    } catch (SQLException e) {
+                        context.getLogger().log(Level.WARNING, "Change log prune failed", e);
+                    }
+                },
+                pruneTicks,
+                pruneTicks);
+    }
+
+    private Cache<String, SaveableObject> buildCache(SaveServiceMeta meta, boolean demote) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                .maximumSize(meta.getCacheSize())
+                .expireAfterAccess(meta.getCacheDuration(), TimeUnit.SECONDS);
+        if (!demote) return builder.build();
+
+        // Entries pushed out of the heap cache are demoted instead of dropped.
+        return builder
+                .<String, SaveableObject>removalListener(notification -> {
+                    if (notification.wasEvicted()) {
+                        demote(notification.getKey(), notification.getValue());
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Moves an evicted entry to the off‑heap level. Guava calls removal listeners on whichever
+     * thread triggers the eviction, possibly the main thread inside {@link #save}, so serializing
+     * is left to the async executor.
+     */
+    private void demote(String key, SaveableObject object) {
+        demoting.put(key, object);
+        CompletableFuture.runAsync(() -> {
+            String serialized = object.toString();
+            synchronized (offHeapCache) {
+                // Skipped if the key was saved, deleted or evicted again in the meantime.
+                if (demoting.remove(key, object)) offHeapCache.put(key, serialized);
+            }
+        });
+    }
+
+    /**
+     * Reads an entry from the off‑heap level, including a pending demotion. Promoting an entry
+     * keeps it there, so it isn't lost if the heap put evicts it again right away; only saves and
+     * deletes drop it.
+     *
+     * @return the serialized entry, or null if the level doesn't hold it
+     */
+    private String readOffHeap(String key) {
+        if (offHeapCache == null) return null;
+
+        SaveableObject pending;
+        String serialized;
+        synchronized (offHeapCache) {
+            pending = demoting.get(key);
+            serialized = pending == null ? offHeapCache.get(key) : null;
+        }
+        return pending != null ? pending.toString() : serialized;
+    }
+
+    private void invalidateOffHeap(String key) {
+        if (offHeapCache == null) return;
+
+        synchronized (offHeapCache) {
+            demoting.remove(key);
+            offHeapCache.invalidate(key);
+        }
+    }
+
+    /**
+     * Applies a new cache size and expiry while running, e.g. after the config was reloaded.
+     *
+     * <p>A new cache is built and swapped in, then the entries of the old one are carried over;
+     * if the new cache is smaller, the excess is evicted (to the off‑heap level if enabled). A
+     * {@link #save} racing with the swap puts its object into the new cache again, so it is never
+     * lost; a loaded entry written concurrently may be dropped, which is harmless as for any
+     * eviction. The off‑heap size and the other settings only apply after a restart.</p>
+     *
+     * @param meta the new settings
+     */
+    public synchronized void resizeCache(SaveServiceMeta meta) {
+        if (!enabled) return;
+        if (meta.getCacheSize() == cacheSize && meta.getCacheDuration() == cacheDuration) return;
+
+        cacheSize = meta.getCacheSize();
+        cacheDuration = meta.getCacheDuration();
+
+        Cache<String, SaveableObject> previous = cachedObjects;
+        Cache<String, SaveableObject> resized = buildCache(meta, offHeapCache != null);
+        cachedObjects = resized;
+
+        previous.asMap().forEach(resized.asMap()::putIfAbsent);
+        previous.invalidateAll();
+    }
+
+    /** Drops a key from both cache levels after another process changed it. */
+    private void invalidateCached(String key) {
+        cachedObjects.invalidate(key);
+        invalidateOffHeap(key);
+    }
+
+    private void invalidateAllCached() {
+        cachedObjects.invalidateAll();
+        if (offHeapCache == null) return;
+
+        synchronized (offHeapCache) {
+            demoting.clear();
+            offHeapCache.invalidateAll();
+        }
+    }
+
     /**
-     * Drains the queue atomically and writes everything to SQLite in a single batch.
+     * Drains the queue atomically and writes everything to SQLite in a single transaction,
+     * replacing the secondary index rows of every written key along the way; objects that are
+     * not {@link IndexedSaveable} (anymore) are left without any. If the batch fails for any
+     * reason, it is queued again for the next flush.
+     *
+     * <p>This runs periodically on its own; calling it directly forces an immediate,
+     * blocking flush.
      */
-    private void flushQueuedObjects() {
+    public void flushQueuedObjects() {
         if (!enabled || queuedObjects.isEmpty()) return;
 
         List<Pair<String, SaveableObject>> snapshot = new ArrayList<>(queuedObjects);
         snapshot.forEach(queuedObjects::remove);
 
-        try (PreparedStatement stmt = connection.prepareStatement(
-                "INSERT OR REPLACE INTO saved_objects (key, data) VALUES (?, ?);")) {
-            for (Pair<String, SaveableObject> pair : snapshot) {
-                stmt.setString(1, pair.primary());
-                stmt.setString(2, pair.secondary().toString());
-                stmt.addBatch();
+        try {
+            inTransaction(() -> {
+                try (PreparedStatement stmt = connection.prepareStatement(
+                        "INSERT OR REPLACE INTO saved_objects (key, data) VALUES (?, ?);");
+                     PreparedStatement clearIndexStmt = connection.prepareStatement(
+                        "DELETE FROM saved_object_indexes WHERE key = ?;");
+                     PreparedStatement indexStmt = connection.prepareStatement(
+                        "INSERT OR REPLACE INTO saved_object_indexes (field, key, value) VALUES (?, ?, ?);")) {
+                    boolean indexed = false;
+                    for (Pair<String, SaveableObject> pair : snapshot) {
+                        stmt.setString(1, pair.primary());
+                        stmt.setString(2, pair.secondary().toString());
+                        stmt.addBatch();
+
+                        clearIndexStmt.setString(1, pair.primary());
+                        clearIndexStmt.addBatch();
+
+                        if (pair.secondary() instanceof IndexedSaveable indexedObject) {
+                            for (Map.Entry<String, Long> field : indexedValues(pair.primary(), indexedObject).entrySet()) {
+                                indexStmt.setString(1, field.getKey());
+                                indexStmt.setString(2, pair.primary());
+                                indexStmt.setLong(3, field.getValue());
+                                indexStmt.addBatch();
+                                indexed = true;
+                            }
+                        }
+                    }
+
+                    stmt.executeBatch();
+                    clearIndexStmt.executeBatch();
+                    if (indexed) indexStmt.executeBatch();
+                }
+
+                if (changeLog != null) changeLog.record(snapshot.stream().map(Pair::primary).toList());
+                return null;
+            });
+        } catch (SQLException | RuntimeException e) {
+            context.getLogger().log(Level.SEVERE, "Batch save failed", e);
+            queuedObjects.addAll(snapshot);
+        }
+    }
+
+    private static Map<String, Long> indexedValues(String key, IndexedSaveable object) {
+        Map<String, Long> values = object.getIndexedValues();
+        if (values == null) {
+            throw new IllegalStateException("Indexed values of " + key + " are null");
+        }
+        for (Map.Entry<String, Long> field : values.entrySet()) {
+            if (field.getKey() == null || field.getValue() == null) {
+                throw new IllegalStateException("Indexed values of " + key + " contain a null field or value");
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Runs the given work in a single transaction on the shared connection, holding its lock
+     * so that no other statement can slip into the transaction.
+     */
+    private <T> T inTransaction(SqlWork<T> work) throws SQLException {
+        synchronized (connection) {
+            connection.setAutoCommit(false);
+            Exception failure = null;
+            try {
+                T result = work.run();
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                failure = e;
+                rollback(e);
+                throw e;
+            } finally {
+                // A failure here must not replace the one that aborted the transaction.
+                try {
+                    connection.setAutoCommit(true);
+                } catch (SQLException e) {
+                    if (failure == null) throw e;
+                    context.getLogger().log(Level.WARNING, "Could not restore auto-commit", e);
+                    failure.addSuppressed(e);
+                }
             }
+        }
+    }
 
-            stmt.executeBatch();
+    private void rollback(Exception failure) {
+        try {
+            connection.rollback();
         } catch (SQLException e) {
-            BingocraftCore.getPlugin().getLogger().log(Level.SEVERE, "Batch save failed", e);
-            queuedObjects.addAll(snapshot);
+            context.getLogger().log(Level.WARNING, "Rollback failed", e);
+            failure.addSuppressed(e);
+        }
+    }
+
+    private static void requirePositive(String name, int value) {
+        if (value <= 0) throw new IllegalArgumentException(name + " must be positive, but is " + value);
+    }
+
+    @FunctionalInterface
+    private interface SqlWork<T> {
+        T run() throws SQLException;
+    }
+
+    /** Number of objects waiting for the next flush. */
+    public int getQueuedCount() {
+        return queuedObjects.size();
+    }
+
+    /** Number of reads served by decoding an entry from the off‑heap level. */
+    public long getOffHeapHitCount() {
+        if (offHeapCache == null) return 0;
+
+        synchronized (offHeapCache) {
+            return offHeapCache.getHitCount();
         }
     }
 
@@ -190,9 +630,9 @@ public class SaveService implements com.pritam.bingocraft.api.persistence.SaveSe
         flushQueuedObjects();
         try {
             connection.close();
-            BingocraftCore.getPlugin().getLogger().info("SaveService shut down.");
+            context.getLogger().info("SaveService shut down.");
         } catch (SQLException e) {
-            BingocraftCore.getPlugin().getLogger().log(Level.WARNING, "Error closing database connection", e);
+            context.getLogger().log(Level.WARNING, "Error closing database connection", e);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.pritam.bingocraft.plugin.persistence;
+
+import java.io.File;
+import java.util.logging.Logger;
+
+/**
+ * Host facilities the {@link SaveService} depends on.
+ *
+ * <p>On a server this is backed by the plugin and the Bukkit scheduler, see
+ * {@link BukkitSaveServiceContext}. Keeping the service behind this interface lets it run
+ * without a server, for example inside benchmarks.
+ */
+public interface SaveServiceContext {
+
+    /**
+     * @return the folder the database file is created in
+     */
+    File getDataFolder();
+
+    /**
+     * @return the logger used to report persistence errors
+     */
+    Logger getLogger();
+
+    /**
+     * Runs a task repeatedly off the server thread.
+     *
+     * @param name a short name describing the task, such as {@code "flush"}
+     * @param task the task to run
+     * @param delayTicks ticks to wait before the first run
+     * @param periodTicks ticks between runs
+     */
+    void runTaskTimerAsynchronously(String name, Runnable task, long delayTicks, long periodTicks);
+}
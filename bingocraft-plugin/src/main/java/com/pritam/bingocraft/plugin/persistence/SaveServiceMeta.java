@@ -10,11 +10,20 @@ public class SaveServiceMeta {
     private int saveInterval;
     private int cacheDuration;
     private int cacheSize;
+    private int offHeapCacheSize;
+    private boolean coherenceEnabled;
+    private int coherencePollInterval;
+    private int coherenceRetention;
 
-    public SaveServiceMeta(boolean enabled, int saveInterval, int cacheDuration, int cacheSize) {
+    public SaveServiceMeta(boolean enabled, int saveInterval, int cacheDuration, int cacheSize, int offHeapCacheSize,
+                           boolean coherenceEnabled, int coherencePollInterval, int coherenceRetention) {
         this.enabled = enabled;
         this.saveInterval = saveInterval;
         this.cacheDuration = cacheDuration;
         this.cacheSize = cacheSize;
+        this.offHeapCacheSize = offHeapCacheSize;
+        this.coherenceEnabled = coherenceEnabled;
+        this.coherencePollInterval = coherencePollInterval;
+        this.coherenceRetention = coherenceRetention;
     }
 }
\ No newline at end of file
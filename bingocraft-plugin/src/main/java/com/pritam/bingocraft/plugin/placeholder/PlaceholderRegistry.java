@@ -0,0 +1,145 @@
+package com.pritam.bingocraft.plugin.placeholder;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Placeholder registry memoizing provider values per server tick.
+ *
+ * <p>Each provider remembers the tick its values were computed on. The first lookup on a later
+ * tick drops the old values, so memory stays bounded by the players resolved in a single tick.
+ */
+public class PlaceholderRegistry implements com.pritam.bingocraft.api.placeholder.PlaceholderRegistry {
+    /**
+     * Marks a memoized null value, since concurrent maps can't hold nulls.
+     */
+    private static final String ABSENT = new String();
+
+    private final Map<String, GlobalProvider> globals = new ConcurrentHashMap<>();
+    private final Map<String, PlayerProvider> players = new ConcurrentHashMap<>();
+    private final Map<String, String> global = new View(null);
+
+    public void registerGlobal(String key, Supplier<String> provider) {
+        globals.put(key, new GlobalProvider(provider));
+    }
+
+    public void registerPlayer(String key, Function<Player, String> provider) {
+        players.put(key, new PlayerProvider(provider));
+    }
+
+    public void unregister(String key) {
+        globals.remove(key);
+        players.remove(key);
+    }
+
+    public String resolve(String key) {
+        GlobalProvider provider = globals.get(key);
+        return provider != null ? provider.get(Bukkit.getCurrentTick()) : null;
+    }
+
+    public String resolve(UUID playerId, String key) {
+        PlayerProvider provider = players.get(key);
+        if (provider != null) {
+            String value = provider.get(playerId, Bukkit.getCurrentTick());
+            if (value != null) return value;
+        }
+        return resolve(key);
+    }
+
+    public Map<String, String> global() {
+        return global;
+    }
+
+    public Map<String, String> forPlayer(UUID playerId) {
+        return new View(playerId);
+    }
+
+    private static final class GlobalProvider {
+        private final Supplier<String> provider;
+        private int tick = -1;
+        private String value;
+
+        private GlobalProvider(Supplier<String> provider) {
+            this.provider = provider;
+        }
+
+        private synchronized String get(int currentTick) {
+            if (tick != currentTick) {
+                value = provider.get();
+                tick = currentTick;
+            }
+            return value;
+        }
+    }
+
+    private static final class PlayerProvider {
+        private final Function<Player, String> provider;
+        private final Map<UUID, String> values = new ConcurrentHashMap<>();
+        private volatile int tick = -1;
+
+        private PlayerProvider(Function<Player, String> provider) {
+            this.provider = provider;
+        }
+
+        private String get(UUID playerId, int currentTick) {
+            if (tick != currentTick) {
+                synchronized (this) {
+                    if (tick != currentTick) {
+                        values.clear();
+                        tick = currentTick;
+                    }
+                }
+            }
+
+            String value = values.computeIfAbsent(playerId, id -> {
+                Player player = Bukkit.getPlayer(id);
+                String computed = player != null ? provider.apply(player) : null;
+                return computed != null ? computed : ABSENT;
+            });
+            return value == ABSENT ? null : value;
+        }
+    }
+
+    /**
+     * Read-only map resolving through the registry, for a player or globally.
+     */
+    private final class View extends AbstractMap<String, String> {
+        private final UUID playerId;
+
+        private View(UUID playerId) {
+            this.playerId = playerId;
+        }
+
+        @Override
+        public String get(Object key) {
+            if (!(key instanceof String name)) return null;
+            return playerId != null ? resolve(playerId, name) : resolve(name);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        /**
+         * Resolves every registered placeholder; lookups should use {@link #get(Object)}.
+         */
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            Set<String> keys = new HashSet<>(globals.keySet());
+            if (playerId != null) keys.addAll(players.keySet());
+
+            Map<String, String> resolved = new HashMap<>();
+            for (String key : keys) {
+                String value = get(key);
+                if (value != null) resolved.put(key, value);
+            }
+            return Collections.unmodifiableMap(resolved).entrySet();
+        }
+    }
+}
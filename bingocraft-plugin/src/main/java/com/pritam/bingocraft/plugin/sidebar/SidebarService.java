@@ -1,50 +1,381 @@
 package com.pritam.bingocraft.plugin.sidebar;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.pritam.bingocraft.api.placeholder.PlaceholderRegistry;
 import com.pritam.bingocraft.api.sidebar.SidebarView;
 import com.pritam.bingocraft.plugin.BingocraftCore;
 import org.bukkit.Bukkit;
 import org.bukkit.scheduler.BukkitTask;
 
-import java.util.HashSet;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
 
 public class SidebarService implements com.pritam.bingocraft.api.sidebar.SidebarService {
-    private final Set<SidebarView> views = new HashSet<>();
+    /**
+     * Ticks between budget overrun reports.
+     */
+    private static final int REPORT_INTERVAL = 1200;
+
+    /**
+     * Minutes a quitting player's active view is remembered for, to restore it when they rejoin.
+     */
+    private static final int RESTORE_MINUTES = 10;
+
+    /**
+     * Registered views by identifier. Readable and writable from any thread.
+     */
+    private final Map<String, SidebarView> registry = new ConcurrentHashMap<>();
+
+    /**
+     * View each online player should see, as requested through {@link #showView(UUID, String)}.
+     */
+    private final Map<UUID, SidebarView> activeViews = new ConcurrentHashMap<>();
+
+    /**
+     * Active views of players who quit recently. Entries expire, so the service doesn't keep a
+     * record of every player that ever saw a view.
+     */
+    private final Cache<UUID, SidebarView> departedViews = CacheBuilder.newBuilder()
+            .expireAfterWrite(RESTORE_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    /**
+     * Registry and player changes made off the main thread, applied at the start of the next tick.
+     */
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final PlaceholderRegistry placeholderRegistry;
+
+    // Main thread only: schedulers of the views being updated and the view each player is actually assigned to.
+    private final List<ViewScheduler> schedulers = new ArrayList<>();
+    private final Map<UUID, SidebarView> assignedViews = new HashMap<>();
+    private TimingWheel wheel = new TimingWheel();
+    private int defaultInterval;
+    private long tickBudgetNanos = Long.MAX_VALUE;
+    private long tickCount;
+    private int cursor;
     private BukkitTask task;
+    private ExecutorService renderExecutor;
 
-    public SidebarService() {}
+    // Budget statistics since the last report.
+    private int overrunTicks;
+    private long maxTickNanos;
+    private int maxCarriedPlayers;
 
+    public SidebarService(PlaceholderRegistry placeholderRegistry) {
+        this.placeholderRegistry = placeholderRegistry;
+    }
+
+    /**
+     * Registers a view, replacing and tearing down any view registered with the same identifier.
+     * Safe to call from any thread.
+     */
     public void register(SidebarView view) {
-        views.add(view);
+        SidebarView previous = registry.put(view.getSCOREBOARD_ID(), view);
+        if (previous == view) return;
+
+        runOnMain(() -> reconcileView(view.getSCOREBOARD_ID()));
     }
 
+    /**
+     * Unregisters a view and removes all of its players from it. Safe to call from any thread.
+     */
     public void unregister(String sidebarId) {
-        views.removeIf(sidebarView -> Objects.equals(sidebarView.getSCOREBOARD_ID(), sidebarId));
+        if (registry.remove(sidebarId) != null) {
+            runOnMain(() -> reconcileView(sidebarId));
+        }
     }
 
     public SidebarView getView(String sidebarId) {
-        return views.stream()
-                .filter(view -> Objects.equals(view.getSCOREBOARD_ID(), sidebarId))
-                .findFirst()
-                .orElse(null);
+        return registry.get(sidebarId);
+    }
+
+    public Collection<SidebarView> getViews() {
+        return List.copyOf(registry.values());
+    }
+
+    public void showView(UUID playerId, String sidebarId) {
+        SidebarView view = registry.get(sidebarId);
+        if (view == null) throw new IllegalArgumentException("No sidebar view registered as " + sidebarId);
+
+        activeViews.put(playerId, view);
+        runOnMain(() -> reconcile(playerId));
+    }
+
+    public void hideView(UUID playerId) {
+        activeViews.remove(playerId);
+        departedViews.invalidate(playerId);
+        runOnMain(() -> reconcile(playerId));
+    }
+
+    public SidebarView getActiveView(UUID playerId) {
+        SidebarView view = activeViews.get(playerId);
+        return view != null ? view : departedViews.getIfPresent(playerId);
+    }
+
+    /**
+     * Gives a joining player their active view back, if they quit less than
+     * {@value #RESTORE_MINUTES} minutes ago.
+     */
+    public void handleJoin(UUID playerId) {
+        SidebarView view = departedViews.getIfPresent(playerId);
+        if (view != null) {
+            departedViews.invalidate(playerId);
+            activeViews.putIfAbsent(playerId, view);
+        }
+        runOnMain(() -> reconcile(playerId));
+    }
+
+    /**
+     * Releases all sidebar state of a quitting player. Their active view is remembered for
+     * {@value #RESTORE_MINUTES} minutes and restored by {@link #handleJoin(UUID)}.
+     */
+    public void handleQuit(UUID playerId) {
+        SidebarView active = activeViews.remove(playerId);
+        if (active != null) {
+            departedViews.put(playerId, active);
+        }
+        runOnMain(() -> {
+            for (ViewScheduler scheduler : schedulers) {
+                scheduler.getView().unassignPlayer(playerId);
+            }
+            assignedViews.remove(playerId);
+        });
+    }
+
+    /**
+     * Re-reads the intervals of a registered view. Called by its scheduler when they change.
+     */
+    void reschedule(ViewScheduler scheduler) {
+        if (task == null || !schedulers.contains(scheduler)) return;
+
+        scheduler.schedule(wheel, defaultInterval);
     }
 
     public void start(long intervalTicks) {
-        if (task != null && !task.isCancelled()) {
-            task.cancel();
+        start(intervalTicks, 0, 0);
+    }
+
+    /**
+     * Starts updating the registered views.
+     *
+     * <p>A single task advances a timing wheel every tick. Each view's {@link ViewScheduler} has a
+     * timer for its update interval and one per distinct line refresh interval; the timers mark
+     * lines dirty. One bucket of players per view is queued each tick, so updates are spread evenly
+     * over the window instead of spiking. Queued players are updated until the tick budget is used
+     * up; the rest carry over to the next tick.</p>
+     *
+     * @param intervalTicks update interval in ticks of views that don't set their own
+     * @param renderThreads threads rendering sidebars off the main thread, 0 to render on the main thread
+     * @param tickBudgetMicros time in microseconds to spend updating sidebars per tick, 0 for no limit
+     */
+    public void start(long intervalTicks, int renderThreads, int tickBudgetMicros) {
+        stop();
+
+        defaultInterval = (int) intervalTicks;
+        tickBudgetNanos = tickBudgetMicros > 0 ? TimeUnit.MICROSECONDS.toNanos(tickBudgetMicros) : Long.MAX_VALUE;
+        wheel = new TimingWheel();
+
+        if (renderThreads > 0) {
+            AtomicInteger threadId = new AtomicInteger();
+            renderExecutor = Executors.newFixedThreadPool(renderThreads, runnable -> {
+                Thread thread = new Thread(runnable, "Bingocraft Sidebar Renderer-" + threadId.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        drainPending();
+        for (ViewScheduler scheduler : schedulers) {
+            scheduler.getView().setRenderExecutor(renderExecutor);
+            scheduler.schedule(wheel, defaultInterval);
         }
 
-        task = Bukkit.getScheduler().runTaskTimer(BingocraftCore.getPlugin(), () -> {
-            for (SidebarView view : views) {
-                view.tick();
+        task = Bukkit.getScheduler().runTaskTimer(BingocraftCore.getPlugin(), this::tick, 0, 1);
+    }
+
+    /**
+     * Applies a new default update interval and tick budget while running, e.g. after the config
+     * was reloaded. Views with their own interval keep it. Can be called from any thread; the
+     * change takes effect on the main thread.
+     *
+     * <p>The number of render threads is only read by {@link #start(long, int, int)}.</p>
+     *
+     * @param intervalTicks update interval in ticks of views that don't set their own
+     * @param tickBudgetMicros time in microseconds to spend updating sidebars per tick, 0 for no limit
+     */
+    public void reconfigure(long intervalTicks, int tickBudgetMicros) {
+        runOnMain(() -> {
+            tickBudgetNanos = tickBudgetMicros > 0 ? TimeUnit.MICROSECONDS.toNanos(tickBudgetMicros) : Long.MAX_VALUE;
+            if (defaultInterval == intervalTicks) return;
+
+            defaultInterval = (int) intervalTicks;
+            for (ViewScheduler scheduler : schedulers) {
+                if (scheduler.getView().getUpdateInterval() == 0) reschedule(scheduler);
             }
-        }, 0, intervalTicks);
+        });
     }
 
     public void stop() {
         if (task != null) {
             task.cancel();
+            task = null;
+        }
+        if (renderExecutor != null) {
+            renderExecutor.shutdownNow();
+            renderExecutor = null;
+        }
+    }
+
+    private void tick() {
+        drainPending();
+        wheel.advance();
+        tickCount++;
+
+        for (ViewScheduler scheduler : schedulers) {
+            scheduler.enqueueBucket(tickCount);
+        }
+
+        long start = System.nanoTime();
+        long deadline = tickBudgetNanos == Long.MAX_VALUE ? Long.MAX_VALUE : start + tickBudgetNanos;
+        boolean finished = true;
+
+        // Finished pipelined passes are applied first, so the next pass can start this same tick.
+        if (renderExecutor != null) {
+            for (ViewScheduler scheduler : schedulers) {
+                scheduler.getView().apply();
+            }
+        }
+
+        // Rotate the starting view so a busy view can't starve the ones after it.
+        int count = schedulers.size();
+        for (int i = 0; i < count; i++) {
+            finished &= schedulers.get((cursor + i) % count).update(deadline);
+        }
+        if (count > 0) cursor = (cursor + 1) % count;
+
+        recordBudget(System.nanoTime() - start, finished);
+    }
+
+    private void runOnMain(Runnable action) {
+        if (Bukkit.isPrimaryThread()) {
+            drainPending();
+            action.run();
+        } else {
+            pending.add(action);
+        }
+    }
+
+    private void drainPending() {
+        Runnable action;
+        while ((action = pending.poll()) != null) {
+            action.run();
+        }
+    }
+
+    /**
+     * Attaches the view registered under the given identifier, detaching the one attached before
+     * if it was replaced or unregistered. Like {@link #reconcile(UUID)}, reading the registry
+     * instead of passing the views keeps concurrent registrations from being applied out of order.
+     */
+    private void reconcileView(String sidebarId) {
+        SidebarView target = registry.get(sidebarId);
+        SidebarView current = null;
+        for (ViewScheduler scheduler : schedulers) {
+            if (scheduler.getView().getSCOREBOARD_ID().equals(sidebarId)) current = scheduler.getView();
+        }
+        if (current == target) return;
+
+        if (current != null) detach(current);
+        if (target != null) attach(target);
+    }
+
+    private void attach(SidebarView view) {
+        ViewScheduler scheduler = new ViewScheduler(view, this);
+        schedulers.add(scheduler);
+        view.setPlaceholderRegistry(placeholderRegistry);
+        if (renderExecutor != null) {
+            view.setRenderExecutor(renderExecutor);
+        }
+        if (task != null) {
+            scheduler.schedule(wheel, defaultInterval);
+        }
+    }
+
+    private void detach(SidebarView view) {
+        for (Iterator<ViewScheduler> iterator = schedulers.iterator(); iterator.hasNext(); ) {
+            ViewScheduler scheduler = iterator.next();
+            if (scheduler.getView() == view) {
+                scheduler.unbind();
+                iterator.remove();
+            }
+        }
+        view.setPlaceholderRegistry(null);
+
+        for (UUID playerId : List.copyOf(view.getPlayers())) {
+            view.unassignPlayer(playerId);
+            assignedViews.remove(playerId, view);
+            activeViews.remove(playerId, view);
+        }
+        departedViews.asMap().values().removeIf(departed -> departed == view);
+    }
+
+    /**
+     * Moves a player from the view they are assigned to onto their active view, if they differ.
+     * Reading the target instead of passing it makes the result independent of the order in which
+     * concurrent switches are applied.
+     */
+    private void reconcile(UUID playerId) {
+        SidebarView target = activeViews.get(playerId);
+        if (target != null && registry.get(target.getSCOREBOARD_ID()) != target) {
+            target = null;
+        }
+
+        SidebarView current = assignedViews.get(playerId);
+        if (current == target) return;
+
+        if (current != null) current.unassignPlayer(playerId);
+        if (target != null) {
+            target.assignPlayer(playerId);
+            assignedViews.put(playerId, target);
+        } else {
+            assignedViews.remove(playerId);
+        }
+    }
+
+    /**
+     * Tracks ticks that exceeded the budget and periodically reports them.
+     *
+     * @param elapsedNanos time spent updating sidebars this tick
+     * @param finished whether all queued players were updated
+     */
+    private void recordBudget(long elapsedNanos, boolean finished) {
+        maxTickNanos = Math.max(maxTickNanos, elapsedNanos);
+        if (!finished || elapsedNanos > tickBudgetNanos) {
+            overrunTicks++;
+            int carried = 0;
+            for (ViewScheduler scheduler : schedulers) {
+                carried += scheduler.getQueuedCount();
+            }
+            maxCarriedPlayers = Math.max(maxCarriedPlayers, carried);
+        }
+
+        if (tickCount % REPORT_INTERVAL != 0) return;
+
+        if (overrunTicks > 0) {
+            BingocraftCore.getPlugin().getLogger().log(Level.WARNING, String.format(
+                    "Sidebar updates exceeded the tick budget of %d us in %d of the last %d ticks (longest %.2f ms, up to %d players carried over)",
+                    TimeUnit.NANOSECONDS.toMicros(tickBudgetNanos), overrunTicks, REPORT_INTERVAL,
+                    maxTickNanos / 1_000_000.0, maxCarriedPlayers));
         }
+        overrunTicks = 0;
+        maxTickNanos = 0;
+        maxCarriedPlayers = 0;
     }
-}
\ No newline at end of file
+}
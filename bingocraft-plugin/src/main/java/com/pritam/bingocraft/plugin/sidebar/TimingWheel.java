@@ -0,0 +1,92 @@
+package com.pritam.bingocraft.plugin.sidebar;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Hashed timing wheel for periodic timers measured in server ticks.
+ *
+ * <p>Timers are kept in {@value #SLOTS} slots by the tick they are due at. {@link #advance()} is
+ * called once per tick and only looks at the timers in the current slot; timers further away than
+ * one revolution wait there for the corresponding number of rounds. Any number of views and lines
+ * can therefore be driven by a single scheduler task at constant cost per tick.
+ *
+ * <p>Not thread-safe; used from the main thread only.
+ */
+final class TimingWheel {
+    private static final int SLOTS = 256;
+    private static final int MASK = SLOTS - 1;
+    private static final int SHIFT = Integer.numberOfTrailingZeros(SLOTS);
+
+    private final List<List<Timer>> slots = new ArrayList<>(SLOTS);
+    private final List<Timer> due = new ArrayList<>();
+    private long tick;
+
+    TimingWheel() {
+        for (int i = 0; i < SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedules a task to run every {@code interval} ticks, starting {@code interval} ticks from now.
+     *
+     * @return the timer, which can be {@link Timer#cancel() cancelled}
+     */
+    Timer schedule(int interval, Runnable task) {
+        if (interval <= 0) throw new IllegalArgumentException("Interval must be positive");
+
+        Timer timer = new Timer(interval, task);
+        insert(timer);
+        return timer;
+    }
+
+    /**
+     * Moves the wheel one tick forward and runs the timers that are due.
+     */
+    void advance() {
+        tick++;
+
+        Iterator<Timer> iterator = slots.get((int) (tick & MASK)).iterator();
+        while (iterator.hasNext()) {
+            Timer timer = iterator.next();
+            if (timer.cancelled) {
+                iterator.remove();
+            } else if (timer.rounds > 0) {
+                timer.rounds--;
+            } else {
+                iterator.remove();
+                due.add(timer);
+            }
+        }
+
+        // Tasks may schedule or cancel timers, so they run after the slot has been processed.
+        for (Timer timer : due) {
+            timer.task.run();
+            if (!timer.cancelled) insert(timer);
+        }
+        due.clear();
+    }
+
+    private void insert(Timer timer) {
+        timer.rounds = (timer.interval - 1) >>> SHIFT;
+        slots.get((int) ((tick + timer.interval) & MASK)).add(timer);
+    }
+
+    static final class Timer {
+        private final int interval;
+        private final Runnable task;
+        private int rounds;
+        private boolean cancelled;
+
+        private Timer(int interval, Runnable task) {
+            this.interval = interval;
+            this.task = task;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.pritam.bingocraft.plugin.sidebar;
+
+import com.pritam.bingocraft.api.sidebar.SidebarDriver;
+import com.pritam.bingocraft.api.sidebar.SidebarView;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * Scheduling state of one registered view: its timers, update buckets and update queue.
+ *
+ * <p>The view's update interval and each distinct refresh interval get a timer on the service's
+ * {@link TimingWheel}; the timers only mark lines dirty. Players are hashed by UUID into as many
+ * buckets as the view's shortest interval, and the service queues one bucket per tick, so every
+ * player is visited once per window and updates are spread evenly over it. Players stay queued
+ * until the view has processed them, carrying over to later ticks when the budget runs out.
+ *
+ * <p>Not thread-safe; used from the main thread only.
+ */
+final class ViewScheduler implements SidebarDriver.Host {
+    /**
+     * Hooks into the views' scheduling.
+     */
+    private static final SidebarDriver DRIVER = SidebarDriver.create();
+
+    @Getter
+    private final SidebarView view;
+    private final SidebarService service;
+    private final List<TimingWheel.Timer> timers = new ArrayList<>();
+
+    /**
+     * Players hashed into update buckets by UUID; a bucket is queued per tick.
+     */
+    private final List<Set<UUID>> buckets = new ArrayList<>(List.of(new HashSet<>()));
+
+    /**
+     * Players waiting to be updated, in order and without duplicates.
+     */
+    private final LinkedHashSet<UUID> queue = new LinkedHashSet<>();
+
+    ViewScheduler(SidebarView view, SidebarService service) {
+        this.view = view;
+        this.service = service;
+
+        for (UUID playerId : view.getPlayers()) {
+            playerAssigned(view, playerId);
+        }
+        DRIVER.bind(view, this);
+    }
+
+    /**
+     * Detaches from the view and cancels its timers.
+     */
+    void unbind() {
+        DRIVER.bind(view, null);
+        cancel();
+    }
+
+    /**
+     * Creates the view's timers and redistributes its players over as many buckets as its
+     * shortest interval, replacing any previous timers.
+     *
+     * @param wheel the wheel to schedule on
+     * @param defaultInterval update interval in ticks if the view doesn't set its own
+     */
+    void schedule(TimingWheel wheel, int defaultInterval) {
+        cancel();
+
+        int updateInterval = view.getUpdateInterval() > 0 ? view.getUpdateInterval() : defaultInterval;
+        int window = updateInterval;
+        timers.add(wheel.schedule(updateInterval, () -> DRIVER.invalidateVolatile(view)));
+
+        for (int refreshInterval : view.getRefreshIntervals()) {
+            window = Math.min(window, refreshInterval);
+            timers.add(wheel.schedule(refreshInterval, () -> DRIVER.refresh(view, refreshInterval)));
+        }
+        setBucketCount(window);
+    }
+
+    void cancel() {
+        timers.forEach(TimingWheel.Timer::cancel);
+        timers.clear();
+    }
+
+    /**
+     * Queues all players of the bucket that is due on the given tick.
+     */
+    void enqueueBucket(long tick) {
+        queue.addAll(buckets.get((int) (tick % buckets.size())));
+    }
+
+    /**
+     * Updates queued players until the queue is empty or the deadline has passed.
+     *
+     * @param deadlineNanos {@link System#nanoTime()} after which no further player is started
+     * @return whether every queued player has been processed
+     */
+    boolean update(long deadlineNanos) {
+        return DRIVER.update(view, queue, deadlineNanos);
+    }
+
+    /**
+     * @return number of players waiting to be updated, including players carried over from earlier ticks
+     */
+    int getQueuedCount() {
+        return queue.size();
+    }
+
+    private void setBucketCount(int count) {
+        if (count == buckets.size()) return;
+
+        List<Set<UUID>> previous = List.copyOf(buckets);
+        buckets.clear();
+        for (int i = 0; i < count; i++) {
+            buckets.add(new HashSet<>());
+        }
+        for (Set<UUID> bucket : previous) {
+            for (UUID playerId : bucket) {
+                buckets.get(bucketOf(playerId)).add(playerId);
+            }
+        }
+    }
+
+    private int bucketOf(UUID playerId) {
+        return Math.floorMod(playerId.hashCode(), buckets.size());
+    }
+
+    @Override
+    public void intervalsChanged(SidebarView view) {
+        service.reschedule(this);
+    }
+
+    @Override
+    public void playerAssigned(SidebarView view, UUID playerId) {
+        buckets.get(bucketOf(playerId)).add(playerId);
+        queue.add(playerId);
+    }
+
+    @Override
+    public void playerUnassigned(SidebarView view, UUID playerId) {
+        buckets.get(bucketOf(playerId)).remove(playerId);
+        queue.remove(playerId);
+    }
+
+    @Override
+    public void updateRequested(SidebarView view, UUID playerId) {
+        queue.add(playerId);
+    }
+}
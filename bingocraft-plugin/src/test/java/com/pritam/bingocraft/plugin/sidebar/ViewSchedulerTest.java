@@ -0,0 +1,113 @@
+package com.pritam.bingocraft.plugin.sidebar;
+
+import com.pritam.bingocraft.api.sidebar.SidebarView;
+import com.pritam.bingocraft.api.sidebar.SidebarTestBase;
+import com.pritam.bingocraft.api.sidebar.backend.RecordingSidebarBackend;
+import com.pritam.bingocraft.api.sidebar.backend.RecordingSidebarBackend.OperationType;
+import com.pritam.bingocraft.api.utils.Message;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Players are spread over buckets, one of which is queued per tick, and players left over when
+ * the budget runs out carry over to the next update.
+ */
+class ViewSchedulerTest extends SidebarTestBase {
+    private static final int PLAYERS = 60;
+    private static final int WINDOW = 20;
+
+    private final TimingWheel wheel = new TimingWheel();
+    private TestSidebar view;
+    private ViewScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        view = new TestSidebar();
+        view.setBackend(backend);
+        view.setPlaceholder("tick", "0");
+
+        // The hash code of these UUIDs is their index, so every bucket gets the same number of players.
+        for (int i = 0; i < PLAYERS; i++) {
+            join(view, new UUID(0, i));
+        }
+
+        scheduler = new ViewScheduler(view, new SidebarService(null));
+        scheduler.schedule(wheel, WINDOW);
+        scheduler.update(Long.MAX_VALUE);
+        backend.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.unbind();
+    }
+
+    @Test
+    void assignedPlayerIsQueuedRightAway() {
+        join(view, new UUID(0, PLAYERS));
+
+        assertEquals(1, scheduler.getQueuedCount());
+        assertTrue(scheduler.update(Long.MAX_VALUE));
+        assertEquals(1, backend.getCount(OperationType.CREATE));
+    }
+
+    @Test
+    void eachPlayerIsUpdatedOncePerWindow() {
+        view.setPlaceholder("tick", "1");
+
+        for (int tick = 0; tick < WINDOW; tick++) {
+            backend.reset();
+            scheduler.enqueueBucket(tick);
+            assertTrue(scheduler.update(Long.MAX_VALUE));
+            assertEquals(PLAYERS / WINDOW, backend.getCount(OperationType.SET_SCORE));
+        }
+
+        assertEquals(PLAYERS, backend.getCanvases().size());
+        for (RecordingSidebarBackend.RecordingCanvas canvas : backend.getCanvases()) {
+            assertTrue(canvas.getScores().containsKey("Tick: 1"));
+        }
+    }
+
+    @Test
+    void playersOverBudgetCarryOver() {
+        view.setPlaceholder("tick", "1");
+
+        scheduler.enqueueBucket(0);
+        assertFalse(scheduler.update(System.nanoTime() - 1));
+        assertEquals(PLAYERS / WINDOW, scheduler.getQueuedCount());
+        assertEquals(0, backend.getTotalCount());
+
+        scheduler.enqueueBucket(1);
+        assertTrue(scheduler.update(Long.MAX_VALUE));
+        assertEquals(0, scheduler.getQueuedCount());
+        assertEquals(2 * PLAYERS / WINDOW, backend.getCount(OperationType.SET_SCORE));
+    }
+
+    @Test
+    void shortestRefreshIntervalSetsTheWindow() {
+        view.setRefreshInterval(1, 5);
+        scheduler.schedule(wheel, WINDOW);
+        view.setPlaceholder("tick", "1");
+
+        scheduler.enqueueBucket(0);
+        assertTrue(scheduler.update(Long.MAX_VALUE));
+        assertEquals(PLAYERS / 5, backend.getCount(OperationType.SET_SCORE));
+    }
+
+    private static final class TestSidebar extends SidebarView {
+        TestSidebar() {
+            super("scheduled");
+            setLine(0, new LiteralLine(new Message(ph -> Component.text("Tick: " + ph.get("tick"))), Set.of("tick")));
+            setLine(1, new LiteralLine(new Message(ph -> Component.text("Refreshed")), Set.of()));
+        }
+    }
+}
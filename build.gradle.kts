@@ -11,7 +11,7 @@ repositories {
 
 allprojects {
     group = "com.pritam.bingocraft"
-    version = "1.0.0-beta1"
+    version = "1.0.0-beta2"
 
     ext {
         set("paperVersion", paperVersion)
@@ -42,6 +42,16 @@ subprojects {
     tasks.withType<ProcessResources> {
         filteringCharset = "UTF-8"
     }
+
+    dependencies {
+        "testImplementation"(platform("org.junit:junit-bom:5.11.4"))
+        "testImplementation"("org.junit.jupiter:junit-jupiter")
+        "testRuntimeOnly"("org.junit.platform:junit-platform-launcher")
+    }
+
+    tasks.withType<Test> {
+        useJUnitPlatform()
+    }
 }
 
 tasks.register("buildAll") {
@@ -1,3 +1,3 @@
 rootProject.name = "Bingocraft-Core"
 
-include("bingocraft-plugin", "bingocraft-api")
\ No newline at end of file
+include("bingocraft-plugin", "bingocraft-api", "bingocraft-benchmarks")
\ No newline at end of file